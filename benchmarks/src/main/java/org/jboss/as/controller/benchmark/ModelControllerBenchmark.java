@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.benchmark.SyntheticModelController.ADD_STEPS;
+import static org.jboss.as.controller.benchmark.SyntheticModelController.COUNT;
+import static org.jboss.as.controller.benchmark.SyntheticModelController.RESOURCE;
+import static org.jboss.as.controller.benchmark.SyntheticModelController.SUBSYSTEM;
+import static org.jboss.as.controller.benchmark.SyntheticModelController.WEIGHT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link org.jboss.as.controller.ModelController#execute} for common operations against synthetic
+ * models of increasing size. Run with, e.g., {@code java -jar target/benchmarks.jar ModelControllerBenchmark -prof gc}
+ * to also see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelControllerBenchmark {
+
+    /** Total number of resources in the model */
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private SyntheticModelController controller;
+
+    private ModelNode readAttribute;
+    private ModelNode readResource;
+    private ModelNode readResourceRecursive;
+    private ModelNode writeAttribute;
+    private ModelNode composite;
+    private ModelNode wildcardReadAttribute;
+    private ModelNode wildcardReadResource;
+    private ModelNode steps;
+    private int weight;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        controller = new SyntheticModelController(size);
+
+        final PathAddress subsystem = PathAddress.pathAddress(SUBSYSTEM, "s0");
+        final PathAddress resource = subsystem.append(RESOURCE, "r0");
+
+        readAttribute = Util.getReadAttributeOperation(resource, WEIGHT);
+
+        readResource = Util.createEmptyOperation(READ_RESOURCE_OPERATION, resource);
+
+        readResourceRecursive = Util.createEmptyOperation(READ_RESOURCE_OPERATION, subsystem);
+        readResourceRecursive.get(RECURSIVE).set(true);
+
+        writeAttribute = Util.getWriteAttributeOperation(resource, WEIGHT, new ModelNode(0));
+
+        composite = Util.createEmptyOperation(COMPOSITE, PathAddress.EMPTY_ADDRESS);
+        composite.get(STEPS).add(Util.getReadAttributeOperation(resource, WEIGHT));
+        composite.get(STEPS).add(Util.getReadAttributeOperation(subsystem.append(RESOURCE, "r1"), WEIGHT));
+        composite.get(STEPS).add(Util.getWriteAttributeOperation(subsystem.append(RESOURCE, "r2"), WEIGHT, new ModelNode(0)));
+
+        // Address every subsystem, which GlobalOperationHandlers expands to one step per match
+        final PathAddress wildcard = PathAddress.pathAddress(PathElement.pathElement(SUBSYSTEM), PathElement.pathElement(RESOURCE, "r0"));
+        wildcardReadAttribute = Util.getReadAttributeOperation(wildcard, WEIGHT);
+        wildcardReadResource = Util.createEmptyOperation(READ_RESOURCE_OPERATION, wildcard);
+
+        steps = Util.createEmptyOperation(ADD_STEPS, PathAddress.EMPTY_ADDRESS);
+        steps.get(COUNT).set(10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        controller.close();
+    }
+
+    @Benchmark
+    public ModelNode readAttribute() {
+        return controller.execute(readAttribute);
+    }
+
+    @Benchmark
+    public ModelNode readResource() {
+        return controller.execute(readResource);
+    }
+
+    @Benchmark
+    public ModelNode readResourceRecursive() {
+        return controller.execute(readResourceRecursive);
+    }
+
+    @Benchmark
+    public ModelNode writeAttribute() {
+        writeAttribute.get(VALUE).set(++weight);
+        return controller.execute(writeAttribute);
+    }
+
+    @Benchmark
+    public ModelNode composite() {
+        composite.get(STEPS).get(2).get(VALUE).set(++weight);
+        return controller.execute(composite);
+    }
+
+    @Benchmark
+    public ModelNode wildcardReadAttribute() {
+        return controller.execute(wildcardReadAttribute);
+    }
+
+    @Benchmark
+    public ModelNode wildcardReadResource() {
+        return controller.execute(wildcardReadResource);
+    }
+
+    /** Executes an operation whose handler adds ten no-op steps, to measure the per-step cost of the context */
+    @Benchmark
+    public ModelNode stepExecution() {
+        return controller.execute(steps);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link PathAddress} operations performed for every management operation: parsing the
+ * {@code address} of the operation, hashing and comparing addresses, e.g. as map keys, and appending elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathAddressBenchmark {
+
+    private static final String CLI_ADDRESS = "/subsystem=logging/periodic-rotating-file-handler=FILE";
+
+    private ModelNode addressNode;
+    private PathAddress address;
+    private PathAddress equalAddress;
+    private PathElement element;
+    private Map<PathAddress, Object> addresses;
+
+    @Setup
+    public void setup() {
+        address = PathAddress.parseCLIStyleAddress(CLI_ADDRESS);
+        addressNode = address.toModelNode();
+        // An equal but not identical instance, so equals() can't take the identity shortcut
+        equalAddress = PathAddress.pathAddress(addressNode);
+        element = PathElement.pathElement("formatter", "PATTERN");
+        addresses = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            addresses.put(PathAddress.pathAddress("subsystem", "s" + i).append("resource", "r" + i), Boolean.TRUE);
+        }
+        addresses.put(address, Boolean.TRUE);
+    }
+
+    @Benchmark
+    public PathAddress parseModelNode() {
+        return PathAddress.pathAddress(addressNode);
+    }
+
+    @Benchmark
+    public PathAddress parseCliStyle() {
+        return PathAddress.parseCLIStyleAddress(CLI_ADDRESS);
+    }
+
+    @Benchmark
+    public ModelNode toModelNode() {
+        return address.toModelNode();
+    }
+
+    @Benchmark
+    public int hash() {
+        return equalAddress.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsNotIdentical() {
+        return address.equals(equalAddress);
+    }
+
+    @Benchmark
+    public Object mapLookup() {
+        return addresses.get(equalAddress);
+    }
+
+    @Benchmark
+    public PathAddress append() {
+        return address.append(element);
+    }
+}
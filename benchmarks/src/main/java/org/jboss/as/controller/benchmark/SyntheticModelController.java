@@ -0,0 +1,208 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.AbstractControllerService;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.CapabilityRegistry;
+import org.jboss.as.controller.CompositeOperationHandler;
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.ModelOnlyResourceDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.ResourceBuilder;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.RunningModeControl;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorizer;
+import org.jboss.as.controller.access.management.ManagementSecurityIdentitySupplier;
+import org.jboss.as.controller.audit.AuditLogger;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.persistence.NullConfigurationPersister;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * A {@link ModelController} running over a synthetic, model-only management model, for use by the benchmarks.
+ * <p>
+ * The model consists of {@code subsystem=s<i>} resources each of which has {@link #RESOURCES_PER_SUBSYSTEM}
+ * {@code resource=r<j>} children. The resources are created directly in the model when the controller starts,
+ * rather than by boot operations, so even very large models are quick to set up.
+ */
+final class SyntheticModelController {
+
+    static final String SUBSYSTEM = "subsystem";
+    static final String RESOURCE = "resource";
+    static final String LABEL = "label";
+    static final String WEIGHT = "weight";
+    static final int RESOURCES_PER_SUBSYSTEM = 100;
+
+    /** Operation on the root resource that adds {@code count} no-op steps, to measure the step machinery */
+    static final String ADD_STEPS = "add-steps";
+    static final String COUNT = "count";
+
+    private static final NonResolvingResourceDescriptionResolver RESOLVER = new NonResolvingResourceDescriptionResolver();
+
+    private static final SimpleAttributeDefinition LABEL_ATTRIBUTE = SimpleAttributeDefinitionBuilder.create(LABEL, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+
+    private static final SimpleAttributeDefinition WEIGHT_ATTRIBUTE = SimpleAttributeDefinitionBuilder.create(WEIGHT, ModelType.INT, true)
+            .setAllowExpression(true)
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT_PARAMETER = SimpleAttributeDefinitionBuilder.create(COUNT, ModelType.INT)
+            .build();
+
+    private static final OperationDefinition ADD_STEPS_DEFINITION = new SimpleOperationDefinitionBuilder(ADD_STEPS, RESOLVER)
+            .setParameters(COUNT_PARAMETER)
+            .setReadOnly()
+            .build();
+
+    private static final OperationStepHandler NO_OP_STEP = new OperationStepHandler() {
+        @Override
+        public void execute(OperationContext context, ModelNode operation) {
+            context.getResult().set(true);
+        }
+    };
+
+    private final ServiceContainer container;
+    private final ModelController controller;
+
+    /**
+     * Starts a controller whose model has {@code size} resources in total.
+     *
+     * @param size the number of resources; at least {@link #RESOURCES_PER_SUBSYSTEM}
+     * @throws InterruptedException if interrupted waiting for the controller to boot
+     */
+    SyntheticModelController(final int size) throws InterruptedException {
+        this.container = ServiceContainer.Factory.create("benchmark");
+        final ControllerService service = new ControllerService(Math.max(1, size / RESOURCES_PER_SUBSYSTEM));
+        container.subTarget().addService(ServiceName.of("benchmark", "model-controller"), service).install();
+        service.awaitBoot();
+        this.controller = service.getValue();
+    }
+
+    /**
+     * Executes an operation, failing if it does not succeed, so a broken benchmark doesn't report misleading numbers.
+     *
+     * @param operation the operation
+     * @return the response
+     */
+    ModelNode execute(final ModelNode operation) {
+        final ModelNode response = controller.execute(operation, null, null, null);
+        if (FAILED.equals(response.get(OUTCOME).asString())) {
+            throw new IllegalStateException(operation + " failed: " + response.get(FAILURE_DESCRIPTION));
+        }
+        return response;
+    }
+
+    void close() throws InterruptedException {
+        container.shutdown();
+        container.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static class ControllerService extends AbstractControllerService {
+
+        private final int subsystems;
+        private final CountDownLatch bootLatch = new CountDownLatch(1);
+
+        private ControllerService(final int subsystems) {
+            super(ProcessType.EMBEDDED_SERVER, new RunningModeControl(RunningMode.NORMAL), new NullConfigurationPersister(),
+                    new ControlledProcessState(true), ResourceBuilder.Factory.create(PathElement.pathElement("root"), RESOLVER).build(),
+                    null, ExpressionResolver.TEST_RESOLVER, AuditLogger.NO_OP_LOGGER, new DelegatingConfigurableAuthorizer(),
+                    new ManagementSecurityIdentitySupplier(), new CapabilityRegistry(true));
+            this.subsystems = subsystems;
+        }
+
+        @Override
+        protected void bootThreadDone() {
+            super.bootThreadDone();
+            bootLatch.countDown();
+        }
+
+        private void awaitBoot() throws InterruptedException {
+            if (!bootLatch.await(5, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("Failed to boot in timely fashion");
+            }
+        }
+
+        @Override
+        protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+            final ManagementResourceRegistration rootRegistration = managementModel.getRootResourceRegistration();
+            GlobalOperationHandlers.registerGlobalOperations(rootRegistration, ProcessType.EMBEDDED_SERVER);
+            rootRegistration.registerOperationHandler(CompositeOperationHandler.DEFINITION, CompositeOperationHandler.INSTANCE);
+            rootRegistration.registerOperationHandler(ADD_STEPS_DEFINITION, new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) {
+                    final int count = operation.get(COUNT).asInt();
+                    for (int i = 0; i < count; i++) {
+                        context.addStep(NO_OP_STEP, OperationContext.Stage.MODEL);
+                    }
+                }
+            });
+
+            final AttributeDefinition[] attributes = {LABEL_ATTRIBUTE, WEIGHT_ATTRIBUTE};
+            final ManagementResourceRegistration subsystemRegistration =
+                    rootRegistration.registerSubModel(new ModelOnlyResourceDefinition(PathElement.pathElement(SUBSYSTEM), RESOLVER, attributes));
+            subsystemRegistration.registerSubModel(new ModelOnlyResourceDefinition(PathElement.pathElement(RESOURCE), RESOLVER, attributes));
+
+            final Resource rootResource = managementModel.getRootResource();
+            for (int i = 0; i < subsystems; i++) {
+                final Resource subsystem = createResource(i);
+                for (int j = 0; j < RESOURCES_PER_SUBSYSTEM; j++) {
+                    subsystem.registerChild(PathElement.pathElement(RESOURCE, "r" + j), createResource(j));
+                }
+                rootResource.registerChild(PathElement.pathElement(SUBSYSTEM, "s" + i), subsystem);
+            }
+        }
+
+        private static Resource createResource(int index) {
+            final Resource resource = Resource.Factory.create();
+            final ModelNode model = resource.getModel();
+            model.get(LABEL).set("resource " + index);
+            model.get(WEIGHT).set(index);
+            return resource;
+        }
+    }
+}
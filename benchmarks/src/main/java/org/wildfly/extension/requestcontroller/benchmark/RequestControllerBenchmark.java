@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.extension.requestcontroller.ControlPoint;
+import org.wildfly.extension.requestcontroller.RequestController;
+import org.wildfly.extension.requestcontroller.RunResult;
+
+/**
+ * Measures the admission of a request through a {@link ControlPoint}, i.e. the {@code beginRequest} and
+ * {@code requestComplete} pair every request entering the server goes through. All threads use the same control
+ * point, as they would for a single deployment. To see how admission scales with the number of cores, compare the
+ * throughput of runs with an increasing number of threads, e.g.
+ * {@code java -jar target/benchmarks.jar RequestControllerBenchmark -t 1}, then {@code -t 4}, {@code -t 16} etc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestControllerBenchmark {
+
+    /** The max-requests setting; -1 is the default, i.e. unlimited */
+    @Param({"-1", "1000000"})
+    public int maxRequests;
+
+    /** The track-individual-control-points setting */
+    @Param({"false", "true"})
+    public boolean trackIndividualControlPoints;
+
+    private ControlPoint controlPoint;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RequestController controller = new RequestController(trackIndividualControlPoints);
+        controller.setMaxRequestCount(maxRequests);
+        controlPoint = controller.getControlPoint("benchmark.war", "web");
+    }
+
+    @Benchmark
+    public RunResult beginAndComplete() throws Exception {
+        RunResult result = controlPoint.beginRequest();
+        if (result == RunResult.RUN) {
+            controlPoint.requestComplete();
+        }
+        return result;
+    }
+}
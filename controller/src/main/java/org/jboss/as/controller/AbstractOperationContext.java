@@ -184,7 +184,7 @@ abstract class AbstractOperationContext implements OperationContext {
 
 
     enum ContextFlag {
-        ROLLBACK_ON_FAIL, ALLOW_RESOURCE_SERVICE_RESTART,
+        ROLLBACK_ON_FAIL, ALLOW_RESOURCE_SERVICE_RESTART, FLUSH_CONFIGURATION,
     }
 
     AbstractOperationContext(final ProcessType processType, final RunningMode runningMode,
@@ -208,15 +208,13 @@ abstract class AbstractOperationContext implements OperationContext {
         this.missingNotificationDescriptionWarnings = new ConcurrentLinkedQueue<String>();
         this.controller = controller;
         steps = new EnumMap<Stage, Deque<Step>>(Stage.class);
-        for (Stage stage : Stage.values()) {
-            if (booting && stage == Stage.VERIFY) {
-                // Use a concurrent structure as the parallel boot threads will
-                // concurrently add steps
-                steps.put(stage, new LinkedBlockingDeque<Step>());
-            } else {
-                steps.put(stage, new ArrayDeque<Step>());
-            }
+        if (booting) {
+            // Use a concurrent structure as the parallel boot threads will
+            // concurrently add steps
+            steps.put(Stage.VERIFY, new LinkedBlockingDeque<Step>());
         }
+        // Other queues are only created when a step is added for their stage, as most
+        // operations, e.g. all reads, only ever add MODEL stage steps
         initiatingThread = Thread.currentThread();
         this.callEnvironment = new Environment(processState, processType);
         modifiedResourcesForModelValidation = skipModelValidation == false ?  new HashSet<PathAddress>() : null;
@@ -331,7 +329,11 @@ abstract class AbstractOperationContext implements OperationContext {
             }
         }
 
-        final Deque<Step> deque = steps.get(stage);
+        Deque<Step> deque = steps.get(stage);
+        if (deque == null) {
+            deque = new ArrayDeque<Step>();
+            steps.put(stage, deque);
+        }
         if (addFirst) {
             deque.addFirst(new Step(stepDefinition, step, response, operation, address));
         } else {
@@ -611,7 +613,8 @@ abstract class AbstractOperationContext implements OperationContext {
         ModelNode primaryResponse = null;
         Step step;
         do {
-            step = steps.get(currentStage).pollFirst();
+            final Deque<Step> deque = steps.get(currentStage);
+            step = deque == null ? null : deque.pollFirst();
             if (step == null) {
 
                 if (currentStage == Stage.MODEL && addModelValidationSteps()) {
@@ -1159,14 +1162,19 @@ abstract class AbstractOperationContext implements OperationContext {
 
     private boolean hasMoreSteps() {
         Stage stage = currentStage;
-        boolean more = !steps.get(stage).isEmpty();
+        boolean more = hasSteps(stage);
         while (!more && stage.hasNext()) {
             stage = stage.next();
-            more = !steps.get(stage).isEmpty();
+            more = hasSteps(stage);
         }
         return more;
     }
 
+    private boolean hasSteps(Stage stage) {
+        final Deque<Step> deque = steps.get(stage);
+        return deque != null && !deque.isEmpty();
+    }
+
     @Override
     public Caller getCaller() {
         // TODO Consider threading but in general no harm in multiple instances being created rather than adding synchronization.
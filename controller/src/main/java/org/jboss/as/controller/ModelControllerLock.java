@@ -33,6 +33,13 @@ import java.util.concurrent.locks.AbstractQueuedSynchronizer;
  * then the exclusive lock may not be acquired, and if the exclusive lock is held, the shared locks may not be acquired.
  * For an existing "permit holder" (operationId), the lock may be reentrantly re-acquired.
  *
+ * The exclusive lock is deliberately not striped by address. An operation holding it publishes a complete new
+ * root resource, updates the resource registration and capability registry in place, and waits for the whole
+ * service container to become stable before verifying its services. None of those could be isolated to a
+ * subtree without merging concurrently prepared models on publish. In addition the lock is only acquired at the
+ * first write, when the operation's full set of target addresses isn't known, so escalating from a subtree to
+ * the whole model would turn today's blocking waits into deadlock failures.
+ *
  * @author Emanuel Muckenhuber
  * @author Ken Wills
  */
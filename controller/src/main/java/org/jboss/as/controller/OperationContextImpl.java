@@ -96,6 +96,7 @@ import org.jboss.as.controller.operations.global.ReadResourceHandler;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.persistence.ConfigurationPersister;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.CopyOnWriteResourceTree;
 import org.jboss.as.controller.registry.DelegatingImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -520,7 +521,7 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     @Override
     ConfigurationPersister.PersistenceResource createPersistenceResource() throws ConfigurationPersistenceException {
-        return modelController.writeModel(managementModel, affectsModel.keySet());
+        return modelController.writeModel(managementModel, affectsModel.keySet(), contextFlags.contains(ContextFlag.FLUSH_CONFIGURATION));
     }
 
     @Override
@@ -929,14 +930,15 @@ final class OperationContextImpl extends AbstractOperationContext {
         authorize(false, runtimeOnly ? READ_WRITE_RUNTIME : READ_WRITE_CONFIG);
         ensureLocalRootResource();
         affectsModel.put(address, NULL);
-        Resource resource = this.managementModel.getRootResource();
+        final CopyOnWriteResourceTree tree = this.managementModel.getResourceTreeForUpdate();
+        Resource resource = tree.getRoot();
         for (PathElement element : address) {
             if (element.isMultiTarget()) {
                 throw ControllerLogger.ROOT_LOGGER.cannotWriteTo("*");
             }
-            resource = requireChild(resource, element, address);
+            resource = requireChildForUpdate(tree, resource, element, address);
         }
-        return resource;
+        return tree.getResourceForUpdate(resource);
     }
 
     private boolean isResourceRuntimeOnly(PathAddress fullAddress) {
@@ -1009,7 +1011,8 @@ final class OperationContextImpl extends AbstractOperationContext {
         authorizeAdd(runtimeOnly);
         ensureLocalRootResource();
         affectsModel.put(absoluteAddress, NULL);
-        Resource model = this.managementModel.getRootResource();
+        final CopyOnWriteResourceTree tree = this.managementModel.getResourceTreeForUpdate();
+        Resource model = tree.getRoot();
         final Iterator<PathElement> i = absoluteAddress.iterator();
         while (i.hasNext()) {
             final PathElement element = i.next();
@@ -1026,15 +1029,11 @@ final class OperationContextImpl extends AbstractOperationContext {
                     if(!childrenNames.contains(key)) {
                         throw ControllerLogger.ROOT_LOGGER.noChildType(key);
                     }
-                    if (index < 0) {
-                        model.registerChild(element, toAdd);
-                    } else {
-                        model.registerChild(element, index, toAdd);
-                    }
+                    tree.registerChild(model, element, index, toAdd);
                     model = toAdd;
                 }
             } else {
-                model = model.getChild(element);
+                model = tree.getChildForUpdate(model, element);
                 if (model == null) {
                     PathAddress ancestor = PathAddress.EMPTY_ADDRESS;
                     for (PathElement pe : absoluteAddress) {
@@ -1072,7 +1071,8 @@ final class OperationContextImpl extends AbstractOperationContext {
         authorize(false, runtimeOnly ? READ_WRITE_RUNTIME : READ_WRITE_CONFIG);
         ensureLocalRootResource();
         affectsModel.put(address, NULL);
-        Resource model = this.managementModel.getRootResource();
+        final CopyOnWriteResourceTree tree = this.managementModel.getResourceTreeForUpdate();
+        Resource model = tree.getRoot();
         final Iterator<PathElement> i = address.iterator();
         while (i.hasNext()) {
             final PathElement element = i.next();
@@ -1080,9 +1080,9 @@ final class OperationContextImpl extends AbstractOperationContext {
                 throw ControllerLogger.ROOT_LOGGER.cannotRemove("*");
             }
             if (! i.hasNext()) {
-                model = model.removeChild(element);
+                model = tree.removeChild(model, element);
             } else {
-                model = requireChild(model, element, address);
+                model = requireChildForUpdate(tree, model, element, address);
             }
         }
 
@@ -1211,6 +1211,13 @@ final class OperationContextImpl extends AbstractOperationContext {
         return getMutableResourceRegistration(null);
     }
 
+    private static Resource requireChildForUpdate(final CopyOnWriteResourceTree tree, final Resource resource,
+                                                  final PathElement childPath, final PathAddress fullAddress) {
+        // Use requireChild to validate, so a missing child is reported the same way
+        requireChild(resource, childPath, fullAddress);
+        return tree.getChildForUpdate(resource, childPath);
+    }
+
     private static Resource requireChild(final Resource resource, final PathElement childPath, final PathAddress fullAddress) {
         if (resource.hasChild(childPath)) {
             return resource.requireChild(childPath);
@@ -1880,7 +1887,10 @@ final class OperationContextImpl extends AbstractOperationContext {
     private synchronized void ensureLocalManagementResourceRegistration() {
         if (!affectsResourceRegistration) {
             takeWriteLock();
-            // TODO call this if we decide to make the MRR cloneable
+            // The MRR is not copied; changes are made in place under the write lock, so unlike the
+            // resource tree there is no per-write copying cost to avoid. If we ever decide to make the
+            // MRR cloneable it should copy lazily per NodeSubregistry, as CopyOnWriteResourceTree does
+            // for resources, rather than cloning the whole tree here.
             //managementModel = managementModel.cloneRootResourceRegistration();
             affectsResourceRegistration = true;
         }
@@ -194,6 +194,7 @@ public class ModelDescriptionConstants {
     public static final String FILTERED_OPERATIONS = "filtered-operations";
     public static final String FIXED_PORT = "fixed-port";
     public static final String FIXED_SOURCE_PORT = "fixed-source-port";
+    public static final String FLUSH_CONFIGURATION = "flush-configuration";
     public static final String FORCE = "force";
     public static final String FORMATTER = "formatter";
     public static final String FULL_REPLACE_DEPLOYMENT = "full-replace-deployment";
@@ -287,6 +288,7 @@ public class ModelDescriptionConstants {
     public static final String MAX_HISTORY = "max-history";
     public static final String MAX_LENGTH = "max-length";
     public static final String MAX_OCCURS = "max-occurs";
+    public static final String MAX_SERVERS_PER_HOST = "max-servers-per-host";
     public static final String MAX_THREADS = "max-threads";
     public static final String MESSAGE_TRANSFER = "message-transfer";
     public static final String MIME_TYPE = "mime-type";
@@ -348,6 +350,7 @@ public class ModelDescriptionConstants {
     public static final String PRINCIPAL_TO_GROUP = "principal-to-group";
     public static final String PRIORITY = "priority";
     public static final String PROBLEM = "problem";
+    public static final String PROCESS_SPAWN_TIME = "process-spawn-time";
     public static final String PROCESS_TYPE = "process-type";
     public static final String PROCESS_STATE = "process-state";
     public static final String PRODUCT_NAME = "product-name";
@@ -382,6 +385,7 @@ public class ModelDescriptionConstants {
     public static final String RECURSIVE_DEPTH = "recursive-depth";
     public static final String RECYCLE = "recycle";
     public static final String REDEPLOY = "redeploy";
+    public static final String REGISTRATION_TIME = "registration-time";
     public static final String RELATIVE_ADDRESS = "relative-address";
     public static final String RELATIVE_TO = "relative-to";
     public static final String RELEASE_CODENAME = "release-codename";
@@ -563,6 +567,8 @@ public class ModelDescriptionConstants {
     public static final String VAULT_EXPRESSION = "vault-expression";
     public static final String VAULT_OPTION = "vault-option";
     public static final String VAULT_OPTIONS = "vault-options";
+    public static final String WAVE_PERCENTAGE = "wave-percentage";
+    public static final String WAVE_SIZE = "wave-size";
     public static final String WEB_URL = "web-url";
     public static final String WHERE = "where";
     public static final String WILDCARD = "wildcard";
@@ -302,7 +302,14 @@ public class GlobalOperationHandlers {
     interface FilterPredicate extends Predicate<ModelNode> {
     }
 
-    private abstract static class AbstractAddressResolver implements OperationStepHandler {
+    /**
+     * Resolves a multi-target address into the concrete addresses it matches, adding a step executing the
+     * delegate handler for each of them.
+     *
+     * @param <T> the type of the object obtained when authorizing access to an address, and then used to
+     *            resolve the address' children, so no address needs to be read more than once
+     */
+    private abstract static class AbstractAddressResolver<T> implements OperationStepHandler {
 
         private static final FilterPredicate DEFAULT_PREDICATE = item -> !item.isDefined()
                 || !item.hasDefined(OP_ADDR);
@@ -430,7 +437,8 @@ public class GlobalOperationHandlers {
                 return;
             }
 
-            if (!authorize(context, base, operation)) {
+            final T target = authorize(context, base, operation);
+            if (target == null) {
                 return;
             }
 
@@ -438,9 +446,9 @@ public class GlobalOperationHandlers {
                 final PathElement currentElement = remaining.getElement(0);
                 final PathAddress newRemaining = remaining.subAddress(1);
                 if (currentElement.isMultiTarget()) {
-                    executeMultiTargetChildren(base, currentElement, newRemaining, context, registration, ignoreMissing);
+                    executeMultiTargetChildren(base, currentElement, newRemaining, context, registration, target, ignoreMissing);
                 } else {
-                    executeSingleTargetChild(base, currentElement, newRemaining, context, ignoreMissing);
+                    executeSingleTargetChild(base, currentElement, newRemaining, context, registration, target, ignoreMissing);
                 }
             } else {
                 final ModelNode newOp = operation.clone();
@@ -484,24 +492,27 @@ public class GlobalOperationHandlers {
         }
 
         protected abstract void executeSingleTargetChild(PathAddress base, PathElement currentElement,
-                                                         PathAddress newRemaining, OperationContext context, boolean ignoreMissing);
+                                                         PathAddress newRemaining, OperationContext context,
+                                                         ImmutableManagementResourceRegistration registration,
+                                                         T target, boolean ignoreMissing);
 
         protected abstract void executeMultiTargetChildren(PathAddress base, PathElement currentElement,
                                                            PathAddress newRemaining, OperationContext context,
                                                            ImmutableManagementResourceRegistration registration,
-                                                           boolean ignoreMissing);
+                                                           T target, boolean ignoreMissing);
 
         /**
          * If not authorized, this will throw an exception for {@link ModelAddressResolver} for use with the
          * {@link ModelAddressResolver#safeExecute(PathAddress, PathAddress, OperationContext, ImmutableManagementResourceRegistration, boolean)}
-         * method. For {@link RegistrationAddressResolver} it will return {@code false}. Otherwise it returns {@code true}
+         * method. For {@link RegistrationAddressResolver} it will return {@code null}. Otherwise it returns the object
+         * to pass to {@link #executeSingleTargetChild} or {@link #executeMultiTargetChildren} for {@code base}.
          *
          * @param context the operation context
          * @param base the path address
          * @param operation the operation
-         * @return whether or not we were authorized
+         * @return the target to resolve the children of {@code base} against, or {@code null} if we were not authorized
          */
-        protected abstract boolean authorize(OperationContext context, PathAddress base, ModelNode operation);
+        protected abstract T authorize(OperationContext context, PathAddress base, ModelNode operation);
 
         private boolean isWFCORE621Needed(ImmutableManagementResourceRegistration registration, PathAddress remaining) {
             if (remaining.size() > 0) {
@@ -733,13 +744,13 @@ public class GlobalOperationHandlers {
 
     }
 
-    private static final class ModelAddressResolver extends AbstractAddressResolver {
+    private static final class ModelAddressResolver extends AbstractAddressResolver<Resource> {
         public ModelAddressResolver(ModelNode operation, ModelNode result, FilteredData filteredData, OperationStepHandler delegate, FilterPredicate predicate) {
             super(operation, result, delegate, filteredData, predicate);
         }
 
-        protected void executeMultiTargetChildren(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, boolean ignoreMissing) {
-            final Resource resource = context.readResource(base, false);
+        @Override
+        protected void executeMultiTargetChildren(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, Resource resource, boolean ignoreMissing) {
             final String childType = currentElement.getKey().equals("*") ? null : currentElement.getKey();
             if (registration.isRemote()) {// || registration.isRuntimeOnly()) {
                 // At least for proxies it should use the proxy operation handler
@@ -758,7 +769,7 @@ public class GlobalOperationHandlers {
                         final PathElement e = PathElement.pathElement(key, child);
                         final PathAddress next = base.append(e);
                         // Either require the child or a remote target
-                        final ImmutableManagementResourceRegistration nr = context.getResourceRegistration().getSubModel(next);
+                        final ImmutableManagementResourceRegistration nr = registration.getSubModel(PathAddress.pathAddress(e));
                         if (resource.hasChild(e) || (nr != null && nr.isRemote())) {
                             safeExecute(next, newRemaining, context, nr, true);
                         }
@@ -773,7 +784,7 @@ public class GlobalOperationHandlers {
                             final PathElement e = PathElement.pathElement(key, segment);
                             final PathAddress next = base.append(e);
                             // Either require the child or a remote target
-                            final ImmutableManagementResourceRegistration nr = context.getResourceRegistration().getSubModel(next);
+                            final ImmutableManagementResourceRegistration nr = registration.getSubModel(PathAddress.pathAddress(e));
                             if (resource.hasChild(e) || (nr != null && nr.isRemote())) {
                                 safeExecute(next, newRemaining, context, nr, ignore);
                             }
@@ -784,11 +795,10 @@ public class GlobalOperationHandlers {
         }
 
         @Override
-        protected void executeSingleTargetChild(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, boolean ignoreMissing) {
+        protected void executeSingleTargetChild(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, Resource resource, boolean ignoreMissing) {
             final PathAddress next = base.append(currentElement);
             // Either require the child or a remote target
-            final Resource resource = context.readResource(base, false);
-            final ImmutableManagementResourceRegistration nr = context.getResourceRegistration().getSubModel(next);
+            final ImmutableManagementResourceRegistration nr = registration.getSubModel(PathAddress.pathAddress(currentElement));
             if (resource.hasChild(currentElement) || (nr != null && nr.isRemote())) {
                 safeExecute(next, newRemaining, context, nr, ignoreMissing);
             }
@@ -799,15 +809,15 @@ public class GlobalOperationHandlers {
         }
 
         @Override
-        protected boolean authorize(OperationContext context, PathAddress base, ModelNode operation) {
+        protected Resource authorize(OperationContext context, PathAddress base, ModelNode operation) {
             try {
-                context.readResource(base, false);
+                //An exception will happen if not allowed
+                //The resource is used to resolve the children of base, so it is only read once
+                return context.readResource(base, false);
             } catch(UnknowRoleException ex) {
                 context.getFailureDescription().set(ex.getMessage());
-                return false;
+                return null;
             }
-            //An exception will happen if not allowed
-            return true;
         }
     }
 
@@ -867,14 +877,14 @@ public class GlobalOperationHandlers {
     }
 
 
-    private static class RegistrationAddressResolver extends AbstractAddressResolver {
+    private static class RegistrationAddressResolver extends AbstractAddressResolver<Boolean> {
 
         RegistrationAddressResolver(final ModelNode operation, final ModelNode result, final OperationStepHandler delegate) {
             super(operation, result, delegate, null, null);
         }
 
         @Override
-        protected void executeMultiTargetChildren(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, boolean ignoreMissing) {
+        protected void executeMultiTargetChildren(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, Boolean authorized, boolean ignoreMissing) {
             final String childType = currentElement.getKey().equals("*") ? null : currentElement.getKey();
             if (registration.isRemote()) {// || registration.isRuntimeOnly()) {
                 // At least for proxies it should use the proxy operation handler
@@ -929,7 +939,7 @@ public class GlobalOperationHandlers {
         }
 
         @Override
-        protected void executeSingleTargetChild(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, boolean ignoreMissing) {
+        protected void executeSingleTargetChild(PathAddress base, PathElement currentElement, PathAddress newRemaining, OperationContext context, ImmutableManagementResourceRegistration registration, Boolean authorized, boolean ignoreMissing) {
             final PathAddress next = base.append(currentElement);
             final ImmutableManagementResourceRegistration nr = context.getResourceRegistration().getSubModel(next);
             if (nr != null) {
@@ -940,7 +950,7 @@ public class GlobalOperationHandlers {
         }
 
         @Override
-        protected boolean authorize(OperationContext context, PathAddress base, ModelNode operation) {
+        protected Boolean authorize(OperationContext context, PathAddress base, ModelNode operation) {
             if (base.size() > 0) {
                 PathElement element = base.getLastElement();
                 if (!element.isWildcard() && (element.getKey().equals(HOST)/* || element.getKey().equals(RUNNING_SERVER)*/)) {
@@ -952,10 +962,10 @@ public class GlobalOperationHandlers {
                     toAuthorize.get(OP).set(READ_RESOURCE_DESCRIPTION_OPERATION);
                     toAuthorize.get(OP_ADDR).set(base.toModelNode());
                     AuthorizationResult.Decision decision = context.authorize(toAuthorize, EnumSet.of(Action.ActionEffect.ADDRESS)).getDecision();
-                    return decision == AuthorizationResult.Decision.PERMIT;
+                    return decision == AuthorizationResult.Decision.PERMIT ? Boolean.TRUE : null;
                 }
             }
-            return true;
+            return Boolean.TRUE;
         }
     }
 
@@ -45,6 +45,8 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
 
     private final XMLElementWriter<ModelMarshallingContext> rootDeparser;
     private final Map<String, XMLElementWriter<SubsystemMarshallingContext>> subsystemWriters = new HashMap<String, XMLElementWriter<SubsystemMarshallingContext>>();
+    /** Only used for the models a subclass passes to {@link SubsystemXmlCache#store} */
+    final SubsystemXmlCache subsystemXmlCache = new SubsystemXmlCache();
 
     /**
      * Construct a new instance.
@@ -73,6 +75,7 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
     @Override
     public void marshallAsXml(final ModelNode model, final OutputStream output) throws ConfigurationPersistenceException {
         final XMLMapper mapper = XMLMapper.Factory.create();
+        final SubsystemXmlCache.Session cacheSession = subsystemXmlCache.startMarshalling(model);
         try {
             XMLStreamWriter streamWriter = null;
             try {
@@ -86,9 +89,11 @@ public abstract class AbstractConfigurationPersister implements ExtensibleConfig
 
                     @Override
                     public XMLElementWriter<SubsystemMarshallingContext> getSubsystemWriter(String extensionName) {
+                        final XMLElementWriter<SubsystemMarshallingContext> writer;
                         synchronized (subsystemWriters) {
-                            return subsystemWriters.get(extensionName);
+                            writer = subsystemWriters.get(extensionName);
                         }
+                        return writer == null || cacheSession == null ? writer : cacheSession.wrap(writer);
                     }
                 };
                 mapper.deparseDocument(rootDeparser, extensibleModel, streamWriter);
@@ -96,8 +96,9 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
     }
 
     @Override
-    public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
+    public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses, boolean flush) throws ConfigurationPersistenceException {
         if(!successfulBoot.get()) {
+            subsystemXmlCache.invalidate(affectedAddresses);
             return new PersistenceResource() {
                 public void commit() {
                 }
@@ -106,11 +107,15 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
                 }
             };
         }
-        return new ConfigurationFilePersistenceResource(model, configurationFile, this);
+        final CoalescingConfigurationWriter.ResourceFactory factory = () -> new ConfigurationFilePersistenceResource(model, configurationFile, this);
+        return subsystemXmlCache.store(model, affectedAddresses, coalescingWriter != null ? () -> coalescingWriter.store(factory, flush) : factory);
     }
 
     @Override
     public String snapshot() throws ConfigurationPersistenceException {
+        if (coalescingWriter != null) {
+            coalescingWriter.flush();
+        }
         return configurationFile.snapshot();
     }
 
@@ -0,0 +1,227 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Coalesces the configuration changes committed within a short window, so that a burst of management operations
+ * results in a single marshal and write of the latest model, rather than one per operation.
+ * <p>
+ * Coalescing is disabled unless the {@value #WINDOW_PROPERTY} system property is set to a positive number of
+ * milliseconds. When enabled a committed change is written at most that long after it was committed. Any pending
+ * write is also flushed before a configuration file is loaded or a snapshot is taken, and when the VM exits.
+ * An operation can ask for its change to be written before it completes, via the
+ * {@value org.jboss.as.controller.descriptions.ModelDescriptionConstants#FLUSH_CONFIGURATION} operation header, in
+ * which case the model is marshalled and written just as without coalescing.
+ * <p>
+ * As a deferred write happens after its operation completed, a failure to marshal the model can only be logged. The
+ * model remains in memory, so the next change which is stored also writes the changes which were lost. That change
+ * is then marshalled and written as if it asked to be flushed, so that if the model still cannot be marshalled it is
+ * the operation whose model fails to marshal that fails, rather than the write being deferred and lost again.
+ */
+final class CoalescingConfigurationWriter {
+
+    static final String WINDOW_PROPERTY = "jboss.config.persistence.coalesce-window";
+
+    /** Writers with a pending write, so they can be flushed before a load or on exit */
+    private static final Set<CoalescingConfigurationWriter> PENDING = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private static volatile ScheduledExecutorService executor;
+
+    private final long window;
+    /** Serializes the actual writes, which may be performed by both the executor and a flushing thread */
+    private final Object writeLock = new Object();
+    // Guarded by 'this'
+    private ResourceFactory pending;
+    // Guarded by 'this'
+    private ScheduledFuture<?> scheduled;
+    // Guarded by 'this'
+    private boolean failed;
+
+    private CoalescingConfigurationWriter(final long window) {
+        this.window = window;
+    }
+
+    /**
+     * Creates a writer if coalescing has been enabled via the {@value #WINDOW_PROPERTY} system property.
+     *
+     * @return the writer, or {@code null} if changes should be written as they are committed
+     */
+    static CoalescingConfigurationWriter create() {
+        final String val = WildFlySecurityManager.getPropertyPrivileged(WINDOW_PROPERTY, null);
+        long window = 0;
+        try {
+            window = val == null ? 0 : Long.parseLong(val);
+        } catch (NumberFormatException ignored) {
+            // write as committed
+        }
+        return window > 0 ? new CoalescingConfigurationWriter(window) : null;
+    }
+
+    /**
+     * Flushes the pending writes of all writers.
+     */
+    static void flushAll() {
+        for (CoalescingConfigurationWriter writer : PENDING) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Wraps the creation of a persistence resource, so that committing it schedules the write rather than
+     * marshalling and writing the model immediately.
+     *
+     * @param factory creates the resource that marshals and writes the model. Cannot be {@code null}
+     * @param flush {@code true} if the model must be marshalled now and written when the resource is committed
+     * @return the resource to return from {@link ConfigurationPersister#store}
+     * @throws ConfigurationPersistenceException if the model is marshalled now, because {@code flush} is {@code true}
+     *                                           or the last deferred write failed, and it could not be marshalled
+     */
+    ConfigurationPersister.PersistenceResource store(final ResourceFactory factory, final boolean flush) throws ConfigurationPersistenceException {
+        final boolean failed;
+        synchronized (this) {
+            failed = this.failed;
+        }
+        if (flush || failed) {
+            final ConfigurationPersister.PersistenceResource resource = factory.create();
+            return new ConfigurationPersister.PersistenceResource() {
+                @Override
+                public void commit() {
+                    write(resource);
+                }
+
+                @Override
+                public void rollback() {
+                    resource.rollback();
+                }
+            };
+        }
+        return new ConfigurationPersister.PersistenceResource() {
+            @Override
+            public void commit() {
+                submit(factory);
+            }
+
+            @Override
+            public void rollback() {
+            }
+        };
+    }
+
+    /**
+     * Writes any pending change now.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            final ResourceFactory factory = takePending();
+            if (factory != null) {
+                try {
+                    factory.create().commit();
+                } catch (ConfigurationPersistenceException e) {
+                    MGMT_OP_LOGGER.failedToPersistConfigurationChange(e);
+                    synchronized (this) {
+                        failed = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a model which supersedes any pending change.
+     */
+    private void write(final ConfigurationPersister.PersistenceResource resource) {
+        synchronized (writeLock) {
+            takePending();
+            resource.commit();
+            synchronized (this) {
+                failed = false;
+            }
+        }
+    }
+
+    private synchronized ResourceFactory takePending() {
+        final ResourceFactory factory = pending;
+        pending = null;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        PENDING.remove(this);
+        return factory;
+    }
+
+    private synchronized void submit(final ResourceFactory factory) {
+        // Changes are committed in order under the controller lock, so this is always the latest model
+        pending = factory;
+        PENDING.add(this);
+        if (scheduled == null) {
+            scheduled = getExecutor().schedule(this::flush, window, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ScheduledExecutorService getExecutor() {
+        ScheduledExecutorService result = executor;
+        if (result == null) {
+            synchronized (CoalescingConfigurationWriter.class) {
+                result = executor;
+                if (result == null) {
+                    result = executor = doPrivileged(new PrivilegedAction<ScheduledExecutorService>() {
+                        @Override
+                        public ScheduledExecutorService run() {
+                            final JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("configuration-writer"),
+                                    Boolean.TRUE, null, "%G - %t", null, null);
+                            final ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+                            scheduledExecutor.setRemoveOnCancelPolicy(true);
+                            Runtime.getRuntime().addShutdownHook(new Thread(CoalescingConfigurationWriter::flushAll, "configuration-writer-flush"));
+                            return scheduledExecutor;
+                        }
+                    });
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the persistence resource that marshals and writes a model.
+     */
+    @FunctionalInterface
+    interface ResourceFactory {
+        ConfigurationPersister.PersistenceResource create() throws ConfigurationPersistenceException;
+    }
+}
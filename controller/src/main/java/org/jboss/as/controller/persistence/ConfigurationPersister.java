@@ -64,6 +64,20 @@ public interface ConfigurationPersister {
      */
     PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException;
 
+    /**
+     * Persist the given configuration model, optionally requiring it to be written to persistent storage before
+     * {@link PersistenceResource#commit()} returns even if this persister would otherwise defer the write.
+     *
+     * @param model the model to persist
+     * @param affectedAddresses the addresses affected by the change
+     * @param flush {@code true} if the model must be written before the commit returns
+     *
+     * @return callback to use to control whether the stored model should be flushed to persistent storage
+     */
+    default PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses, boolean flush) throws ConfigurationPersistenceException {
+        return store(model, affectedAddresses);
+    }
+
     /**
      * Marshals the given configuration model to XML, writing to the given stream.
      *
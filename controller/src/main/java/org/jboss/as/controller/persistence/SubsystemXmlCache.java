@@ -0,0 +1,325 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Caches the XML written for each subsystem when a stored model is marshalled, so that the next store only needs
+ * to run the subsystem writers of the subsystems affected by the operation. The other subsystems are written by
+ * replaying the calls their writer made to the stream writer the last time.
+ * <p>
+ * The cache is only used to marshal the latest model passed to {@link #store}, and the entries for a subsystem are
+ * discarded whenever a stored change affects an address in that subsystem. A change to the root resource, or to a
+ * profile or host as a whole, discards all entries.
+ */
+final class SubsystemXmlCache {
+
+    private static final ClassLoader PROXY_CLASS_LOADER = WildFlySecurityManager.getClassLoaderPrivileged(XMLExtendedStreamWriter.class);
+    private static final Class<?>[] PROXY_INTERFACES = new Class<?>[] { XMLExtendedStreamWriter.class };
+
+    // Guarded by 'this'
+    private final Map<PathAddress, Fragment> fragments = new HashMap<>();
+    /** Incremented on every invalidation, so a marshal that overlaps with one does not cache stale fragments */
+    // Guarded by 'this'
+    private long generation;
+    private volatile Reference<ModelNode> stored = new WeakReference<>(null);
+
+    /**
+     * Records that a model is about to be stored, discarding the entries for the affected subsystems, and
+     * creates the persistence resource for it. The entries are discarded again if the change does not get committed.
+     *
+     * @param model the model being stored
+     * @param affectedAddresses the addresses affected by the change
+     * @param factory creates the resource that marshals and writes the model
+     * @return the resource to return from {@link ConfigurationPersister#store}
+     */
+    ConfigurationPersister.PersistenceResource store(final ModelNode model, final Set<PathAddress> affectedAddresses,
+                                                     final CoalescingConfigurationWriter.ResourceFactory factory) throws ConfigurationPersistenceException {
+        invalidate(affectedAddresses);
+        stored = new WeakReference<>(model);
+        boolean ok = false;
+        try {
+            final ConfigurationPersister.PersistenceResource delegate = factory.create();
+            ok = true;
+            return new ConfigurationPersister.PersistenceResource() {
+                @Override
+                public void commit() {
+                    delegate.commit();
+                }
+
+                @Override
+                public void rollback() {
+                    // The cached fragments may have been recorded from the discarded model
+                    invalidate(affectedAddresses);
+                    delegate.rollback();
+                }
+            };
+        } finally {
+            if (!ok) {
+                invalidate(affectedAddresses);
+            }
+        }
+    }
+
+    /**
+     * Discards the entries for the subsystems affected by a change.
+     *
+     * @param affectedAddresses the addresses affected by the change
+     */
+    synchronized void invalidate(final Set<PathAddress> affectedAddresses) {
+        generation++;
+        for (PathAddress address : affectedAddresses) {
+            final String subsystem = getSubsystemName(address);
+            if (subsystem != null) {
+                final Iterator<PathAddress> it = fragments.keySet().iterator();
+                while (it.hasNext()) {
+                    if (subsystem.equals(it.next().getLastElement().getValue())) {
+                        it.remove();
+                    }
+                }
+            } else if (address.size() == 0 || (address.size() == 1
+                    && (PROFILE.equals(address.getElement(0).getKey()) || HOST.equals(address.getElement(0).getKey())))) {
+                fragments.clear();
+            }
+        }
+    }
+
+    /**
+     * Starts marshalling a model.
+     *
+     * @param model the model to marshal
+     * @return the marshalling session, or {@code null} if the model is not the latest stored one and so the cache
+     *         cannot be used
+     */
+    Session startMarshalling(final ModelNode model) {
+        if (stored.get() != model) {
+            return null;
+        }
+        final Map<ModelNode, PathAddress> locations = new IdentityHashMap<>();
+        addSubsystems(model, PathAddress.EMPTY_ADDRESS, locations);
+        addSubsystems(model, PROFILE, locations);
+        addSubsystems(model, HOST, locations);
+        synchronized (this) {
+            return new Session(locations, generation);
+        }
+    }
+
+    private synchronized Fragment get(final PathAddress location) {
+        return fragments.get(location);
+    }
+
+    private synchronized void put(final PathAddress location, final Fragment fragment, final long sessionGeneration) {
+        if (sessionGeneration == generation) {
+            fragments.put(location, fragment);
+        }
+    }
+
+    private static void addSubsystems(final ModelNode model, final String type, final Map<ModelNode, PathAddress> locations) {
+        // Only read what is defined, so we don't modify the model we are marshalling
+        if (model.hasDefined(type)) {
+            final ModelNode children = model.get(type);
+            for (String name : children.keys()) {
+                addSubsystems(children.get(name), PathAddress.pathAddress(type, name), locations);
+            }
+        }
+    }
+
+    private static void addSubsystems(final ModelNode model, final PathAddress address, final Map<ModelNode, PathAddress> locations) {
+        if (model.hasDefined(SUBSYSTEM)) {
+            final ModelNode subsystems = model.get(SUBSYSTEM);
+            for (String name : subsystems.keys()) {
+                locations.put(subsystems.get(name), address.append(SUBSYSTEM, name));
+            }
+        }
+    }
+
+    private static String getSubsystemName(final PathAddress address) {
+        for (PathElement element : address) {
+            if (SUBSYSTEM.equals(element.getKey())) {
+                return element.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The marshalling of a single model.
+     */
+    final class Session {
+
+        private final Map<ModelNode, PathAddress> locations;
+        private final long sessionGeneration;
+
+        private Session(final Map<ModelNode, PathAddress> locations, final long sessionGeneration) {
+            this.locations = locations;
+            this.sessionGeneration = sessionGeneration;
+        }
+
+        /**
+         * Wraps a subsystem writer, so it is only invoked if its output is not cached.
+         *
+         * @param writer the subsystem writer. Cannot be {@code null}
+         * @return the wrapping writer
+         */
+        XMLElementWriter<SubsystemMarshallingContext> wrap(final XMLElementWriter<SubsystemMarshallingContext> writer) {
+            return (streamWriter, context) -> {
+                final PathAddress location = locations.get(context.getModelNode());
+                if (location == null) {
+                    writer.writeContent(streamWriter, context);
+                    return;
+                }
+                final Fragment cached = get(location);
+                if (cached != null && cached.writer == writer) {
+                    cached.replay(streamWriter);
+                    return;
+                }
+                final Recorder recorder = new Recorder(streamWriter);
+                final XMLExtendedStreamWriter recording = (XMLExtendedStreamWriter) Proxy.newProxyInstance(PROXY_CLASS_LOADER, PROXY_INTERFACES, recorder);
+                writer.writeContent(recording, new SubsystemMarshallingContext(context.getModelNode(), recording));
+                put(location, new Fragment(writer, recorder.calls), sessionGeneration);
+            };
+        }
+    }
+
+    /**
+     * The calls a subsystem writer made to the stream writer.
+     */
+    private static final class Fragment {
+
+        private final XMLElementWriter<SubsystemMarshallingContext> writer;
+        private final List<Call> calls;
+
+        private Fragment(final XMLElementWriter<SubsystemMarshallingContext> writer, final List<Call> calls) {
+            this.writer = writer;
+            this.calls = calls;
+        }
+
+        void replay(final XMLExtendedStreamWriter streamWriter) throws XMLStreamException {
+            for (Call call : calls) {
+                try {
+                    call.method.invoke(streamWriter, call.args);
+                } catch (InvocationTargetException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof XMLStreamException) {
+                        throw (XMLStreamException) cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new XMLStreamException(cause);
+                } catch (IllegalAccessException e) {
+                    throw new XMLStreamException(e);
+                }
+            }
+        }
+    }
+
+    private static final class Call {
+        private final Method method;
+        private final Object[] args;
+
+        private Call(final Method method, final Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    /**
+     * Passes the calls on to the real stream writer, recording those that write to it.
+     */
+    private static final class Recorder implements InvocationHandler {
+
+        private final XMLExtendedStreamWriter target;
+        private final List<Call> calls = new ArrayList<>();
+
+        private Recorder(final XMLExtendedStreamWriter target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            // Only the getters return a value; they don't affect what gets written
+            if (method.getReturnType() == void.class) {
+                calls.add(new Call(method, copy(args)));
+            }
+            return result;
+        }
+
+        private static Object[] copy(final Object[] args) {
+            if (args == null) {
+                return null;
+            }
+            final Object[] copy = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                final Object arg = args[i];
+                if (arg instanceof char[]) {
+                    copy[i] = ((char[]) arg).clone();
+                } else if (arg instanceof String[]) {
+                    copy[i] = ((String[]) arg).clone();
+                } else if (arg instanceof Iterable) {
+                    final List<Object> list = new ArrayList<>();
+                    for (Object o : (Iterable<?>) arg) {
+                        list.add(o);
+                    }
+                    copy[i] = list;
+                } else {
+                    copy[i] = arg;
+                }
+            }
+            return copy;
+        }
+    }
+}
@@ -60,6 +60,8 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
     private final boolean suppressLoad;
+    /** Writes committed changes in the background if coalescing is enabled; otherwise {@code null} */
+    final CoalescingConfigurationWriter coalescingWriter;
 
     /**
      * Construct a new instance.
@@ -89,6 +91,7 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         this.rootParser = rootParser;
         this.additionalParsers = new HashMap<QName, XMLElementReader<List<ModelNode>>>();
         this.suppressLoad = suppressLoad;
+        this.coalescingWriter = CoalescingConfigurationWriter.create();
     }
 
     public void registerAdditionalRootElement(final QName anotherRoot, final XMLElementReader<List<ModelNode>> parser){
@@ -100,7 +103,14 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
-        return new FilePersistenceResource(model, fileName, this);
+        return store(model, affectedAddresses, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses, boolean flush) throws ConfigurationPersistenceException {
+        final CoalescingConfigurationWriter.ResourceFactory factory = () -> new FilePersistenceResource(model, fileName, this);
+        return subsystemXmlCache.store(model, affectedAddresses, coalescingWriter != null ? () -> coalescingWriter.store(factory, flush) : factory);
     }
 
     /** {@inheritDoc} */
@@ -109,6 +119,8 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         if (suppressLoad) {
             return new ArrayList<>();
         }
+        // Make sure we read any change still to be written, e.g. by the persister in use before a reload
+        CoalescingConfigurationWriter.flushAll();
 
         final XMLMapper mapper = XMLMapper.Factory.create();
         mapper.registerRootElement(rootElement, rootParser);
@@ -250,6 +250,69 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         }
     }
 
+    /**
+     * Creates a copy of this resource whose local model and child maps are independent of this resource's, but
+     * which references the same child resources instead of cloning them. Used by {@link CopyOnWriteResourceTree}
+     * so a write only needs to copy the resources on the path to the one being modified.
+     *
+     * @return the copy, or {@code null} if this type of resource does not support sharing its children
+     */
+    AbstractModelResource copyWithSharedChildren() {
+        return null;
+    }
+
+    /**
+     * Copies the child providers to {@code copy}. Providers of the default type are copied shallowly, so
+     * {@code copy} shares their child resources; any other provider is {@link ResourceProvider#clone() cloned}.
+     *
+     * @param copy the resource to register the providers with
+     */
+    void shareProviders(AbstractModelResource copy) {
+        synchronized (children) {
+            for (final Map.Entry<String, ResourceProvider> entry : children.entrySet()) {
+                final ResourceProvider provider = entry.getValue();
+                if (provider instanceof DefaultResourceProvider) {
+                    copy.registerResourceProvider(entry.getKey(), ((DefaultResourceProvider) provider).shallowCopy());
+                } else {
+                    copy.registerResourceProvider(entry.getKey(), provider.clone());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether the children of the given type may be shared with another resource following a call to
+     * {@link #shareProviders(AbstractModelResource)}.
+     *
+     * @param childType the child type
+     * @return {@code true} if the children are held by a provider of the default type
+     */
+    boolean isSharingChildren(final String childType) {
+        return getProvider(childType) instanceof DefaultResourceProvider;
+    }
+
+    /**
+     * Replaces an existing child with another resource, preserving the position of the child among its siblings.
+     *
+     * @param address the address of the existing child. Cannot be {@code null} or a wildcard
+     * @param resource the replacement resource. Cannot be {@code null}
+     *
+     * @throws NoSuchResourceException if there is no existing child at {@code address}
+     * @throws IllegalStateException if the children of the given type are not held by a provider of the default type
+     */
+    void replaceChild(final PathElement address, final Resource resource) {
+        final ResourceProvider provider = getProvider(address.getKey());
+        if (provider == null) {
+            throw new NoSuchResourceException(address);
+        }
+        if (!(provider instanceof DefaultResourceProvider)) {
+            throw new IllegalStateException();
+        }
+        if (!((DefaultResourceProvider) provider).replace(address.getValue(), resource)) {
+            throw new NoSuchResourceException(address);
+        }
+    }
+
     private class DefaultResourceProvider implements ResourceProvider {
 
         private final Map<String, Resource> children = new LinkedHashMap<String, Resource>();
@@ -331,6 +394,25 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
             }
         }
 
+        boolean replace(String name, Resource resource) {
+            synchronized (children) {
+                if (!children.containsKey(name)) {
+                    return false;
+                }
+                // Replacing the value of an existing key does not affect the iteration order
+                children.put(name, resource);
+                return true;
+            }
+        }
+
+        DefaultResourceProvider shallowCopy() {
+            final DefaultResourceProvider provider = new DefaultResourceProvider();
+            synchronized (children) {
+                provider.children.putAll(children);
+            }
+            return provider;
+        }
+
         @Override
         public ResourceProvider clone() {
             final DefaultResourceProvider provider = new DefaultResourceProvider();
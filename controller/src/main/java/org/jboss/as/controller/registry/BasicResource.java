@@ -73,17 +73,28 @@ class BasicResource extends AbstractModelResource implements Resource {
     @SuppressWarnings({"CloneDoesntCallSuperClone"})
     @Override
     public Resource clone() {
-        final BasicResource clone = new BasicResource(isRuntime(), getOrderedChildTypes());
+        final BasicResource clone = copyModel();
+        cloneProviders(clone);
+        return clone;
+    }
+
+    @Override
+    AbstractModelResource copyWithSharedChildren() {
+        final BasicResource copy = copyModel();
+        shareProviders(copy);
+        return copy;
+    }
+
+    private BasicResource copyModel() {
+        final BasicResource copy = new BasicResource(isRuntime(), getOrderedChildTypes());
         for (;;) {
             try {
-                clone.writeModel(model);
-                break;
+                copy.writeModel(model);
+                return copy;
             } catch (ConcurrentModificationException ignore) {
                 // TODO horrible hack :(
             }
         }
-        cloneProviders(clone);
-        return clone;
     }
 
 }
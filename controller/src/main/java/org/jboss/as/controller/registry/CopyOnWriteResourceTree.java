@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.jboss.as.controller.PathElement;
+
+/**
+ * A private, writable view of a published {@link Resource} tree that copies resources lazily. Instead of
+ * {@link Resource#clone() cloning} the entire tree before a write, only the resources on the path from the root
+ * to a resource being modified are copied; all other resources remain shared with the published tree. The cost
+ * of a write therefore depends on the depth of the modified resource rather than on the size of the model.
+ * <p>
+ * Each resource reachable via this tree is in one of two states:
+ * <ul>
+ *     <li><em>path copy</em> -- the resource's local model and child maps are private, but its children
+ *     may still be shared with the published tree</li>
+ *     <li><em>private</em> -- the resource and all its descendants are private</li>
+ * </ul>
+ * Callers must only navigate the tree via {@link #getChildForUpdate(Resource, PathElement)} and must only
+ * modify resources returned by {@link #getResourceForUpdate(Resource)}, or the parents passed to
+ * {@link #registerChild(Resource, PathElement, int, Resource)} and {@link #removeChild(Resource, PathElement)}.
+ * <p>
+ * Resources other than those created by {@link Resource.Factory} do not support sharing their children, so when
+ * such a resource is encountered on a path it is fully cloned, as it would have been had the whole tree been cloned.
+ * <p>
+ * Updates are synchronized, as during parallel boot several threads holding the same controller lock permit
+ * may update the tree concurrently.
+ */
+public final class CopyOnWriteResourceTree {
+
+    private final Resource root;
+    /** Resources whose model and child maps are private but whose children may be shared */
+    private final Set<Resource> pathCopies = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+    /** Private resources that are, or were, direct children of a path copy */
+    private final Set<Resource> privateChildren = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+    /** Shared resources removed from a path copy, which must not be treated as private if they are added back */
+    private final Set<Resource> detached = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+
+    /**
+     * Creates a new copy-on-write view of the given resource tree.
+     *
+     * @param published the root of the published tree. Cannot be {@code null}
+     */
+    public CopyOnWriteResourceTree(final Resource published) {
+        this.root = copy(published);
+    }
+
+    /**
+     * Gets the root of this tree. The root's model may be modified, but its children may only be
+     * accessed for update via {@link #getChildForUpdate(Resource, PathElement)}.
+     *
+     * @return the root resource. Will not be {@code null}
+     */
+    public Resource getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the child of a resource in this tree, copying it first if it is shared with the published tree.
+     * The returned resource's model may be modified, but its children may only be accessed for update via
+     * further calls to this method.
+     *
+     * @param parent the parent resource; either the {@link #getRoot() root} or a resource previously returned by
+     *               this tree. Cannot be {@code null}
+     * @param element the address of the child. Cannot be {@code null} or a wildcard
+     * @return the child, or {@code null} if {@code parent} has no such child
+     */
+    public synchronized Resource getChildForUpdate(final Resource parent, final PathElement element) {
+        final Resource child = parent.getChild(element);
+        if (child == null || !pathCopies.contains(parent)
+                || pathCopies.contains(child) || privateChildren.contains(child)
+                || !((AbstractModelResource) parent).isSharingChildren(element.getKey())) {
+            // Either the child is not shared or we've already copied it
+            return child;
+        }
+        final Resource copy = copy(child);
+        ((AbstractModelResource) parent).replaceChild(element, copy);
+        if (!pathCopies.contains(copy)) {
+            privateChildren.add(copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Ensures that the given resource and all of its descendants are private to this tree, so the caller
+     * may freely navigate and modify them.
+     *
+     * @param resource the resource; either the {@link #getRoot() root} or a resource previously returned by
+     *                 {@link #getChildForUpdate(Resource, PathElement)}. Cannot be {@code null}
+     * @return {@code resource}, whose descendants are now all private
+     */
+    public synchronized Resource getResourceForUpdate(final Resource resource) {
+        if (pathCopies.remove(resource)) {
+            privateChildren.add(resource);
+            final AbstractModelResource parent = (AbstractModelResource) resource;
+            for (String childType : parent.getChildTypes()) {
+                if (!parent.isSharingChildren(childType)) {
+                    continue;
+                }
+                for (String childName : parent.getChildrenNames(childType)) {
+                    final PathElement element = PathElement.pathElement(childType, childName);
+                    final Resource child = parent.getChild(element);
+                    if (child == null) {
+                        continue;
+                    }
+                    if (pathCopies.contains(child)) {
+                        getResourceForUpdate(child);
+                    } else if (!privateChildren.contains(child)) {
+                        parent.replaceChild(element, child.clone());
+                    }
+                }
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Registers a child with a resource in this tree.
+     *
+     * @param parent the parent resource; either the {@link #getRoot() root} or a resource previously returned by
+     *               this tree. Cannot be {@code null}
+     * @param element the address of the child. Cannot be {@code null} or a wildcard
+     * @param index the index at which to register the child, or {@code -1} to add it at the end
+     * @param child the child to register. Cannot be {@code null}
+     */
+    public synchronized void registerChild(final Resource parent, final PathElement element, final int index, final Resource child) {
+        if (index < 0) {
+            parent.registerChild(element, child);
+        } else {
+            parent.registerChild(element, index, child);
+        }
+        if (pathCopies.contains(parent) && !detached.remove(child) && !pathCopies.contains(child)) {
+            privateChildren.add(child);
+        }
+    }
+
+    /**
+     * Removes a child from a resource in this tree.
+     *
+     * @param parent the parent resource; either the {@link #getRoot() root} or a resource previously returned by
+     *               this tree. Cannot be {@code null}
+     * @param element the address of the child. Cannot be {@code null} or a wildcard
+     * @return the removed child, or {@code null} if there was no such child
+     */
+    public synchronized Resource removeChild(final Resource parent, final PathElement element) {
+        final boolean shared = pathCopies.contains(parent) && ((AbstractModelResource) parent).isSharingChildren(element.getKey());
+        final Resource removed = parent.removeChild(element);
+        if (removed != null && shared && !pathCopies.contains(removed) && !privateChildren.remove(removed)) {
+            // Still part of the published tree
+            detached.add(removed);
+        }
+        return removed;
+    }
+
+    private Resource copy(final Resource resource) {
+        if (resource instanceof AbstractModelResource) {
+            final AbstractModelResource copy = ((AbstractModelResource) resource).copyWithSharedChildren();
+            if (copy != null) {
+                pathCopies.add(copy);
+                return copy;
+            }
+        }
+        return resource.clone();
+    }
+}
@@ -146,6 +146,39 @@ public class OperationTransformerRegistry {
         return list;
     }
 
+    /**
+     * Get the address with a wildcard for every value this registry does not tell apart from others, i.e. for every
+     * value without a registration of its own and for every element past the registered ones. All addresses with
+     * the same wildcard address resolve to the same path and operation transformers, as long as no placeholder
+     * resolver is used.
+     *
+     * @param address the path address
+     * @return the wildcard address, which is {@code address} itself if the registry tells all its values apart
+     */
+    public PathAddress getWildcardAddress(final PathAddress address) {
+        OperationTransformerRegistry registry = this;
+        PathElement[] elements = null;
+        for (int i = 0; i < address.size(); i++) {
+            final PathElement element = address.getElement(i);
+            final SubRegistry sub = registry != null ? subRegistriesUpdater.get(registry, element.getKey()) : null;
+            if (sub == null || !sub.contains(element.getValue())) {
+                if (elements == null && !element.isWildcard()) {
+                    elements = new PathElement[address.size()];
+                    for (int j = 0; j < i; j++) {
+                        elements[j] = address.getElement(j);
+                    }
+                }
+                if (elements != null) {
+                    elements[i] = PathElement.pathElement(element.getKey());
+                }
+            } else if (elements != null) {
+                elements[i] = element;
+            }
+            registry = sub != null ? sub.get(element.getValue()) : null;
+        }
+        return elements != null ? PathAddress.pathAddress(elements) : address;
+    }
+
     public OperationTransformerRegistry getChild(final PathAddress address) {
         final Iterator<PathElement> iterator = address.iterator();
         return resolveChild(iterator);
@@ -359,6 +392,10 @@ public class OperationTransformerRegistry {
             get(value).registerTransformer(iterator, operationName, entry);
         }
 
+        boolean contains(final String value) {
+            return childrenUpdater.get(this, value) != null;
+        }
+
         OperationTransformerRegistry get(final String value) {
             OperationTransformerRegistry entry = childrenUpdater.get(this, value);
             if(entry == null) {
@@ -24,8 +24,10 @@ package org.jboss.as.controller.transform;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
@@ -41,6 +43,9 @@ import org.jboss.as.controller.registry.OperationTransformerRegistry.Placeholder
  */
 public class TransformationTargetImpl implements TransformationTarget {
 
+    /** The maximum number of resolved lookups kept per target, beyond which an arbitrary lookup is evicted */
+    private static final int MAX_RESOLVED_LOOKUPS = 1024;
+
     private final String hostName;
     private final ModelVersion version;
     private final TransformerRegistry transformerRegistry;
@@ -49,6 +54,12 @@ public class TransformationTargetImpl implements TransformationTarget {
     private final TransformationTargetType type;
     private final PlaceholderResolver placeholderResolver;
     private final Transformers.OperationExcludedTransformationRegistry operationIgnoredRegistry;
+    // Flat lookup tables of what has already been resolved from the registry chain, as every host of a domain
+    // is usually sent the same operations. Keyed on the registry's wildcard address, so that the tables hold one
+    // entry per registration rather than one per resource. Only used without a placeholder resolver. Replaced rather
+    // than cleared when the registry changes, so a lookup resolved against the previous registry can only land in
+    // the old tables.
+    private volatile ResolvedLookups resolvedLookups = new ResolvedLookups();
 
     private TransformationTargetImpl(final String hostName, final TransformerRegistry transformerRegistry, final ModelVersion version,
                                      final Map<PathAddress, ModelVersion> subsystemVersions, final OperationTransformerRegistry transformers,
@@ -149,7 +160,17 @@ public class TransformationTargetImpl implements TransformationTarget {
 
     @Override
     public List<PathAddressTransformer> getPathTransformation(final PathAddress address) {
-        return registry.getPathTransformations(address, placeholderResolver);
+        if (placeholderResolver != null) {
+            return registry.getPathTransformations(address, placeholderResolver);
+        }
+        final ResolvedLookups resolved = resolvedLookups;
+        final PathAddress wildcardAddress = registry.getWildcardAddress(address);
+        List<PathAddressTransformer> transformations = resolved.pathTransformations.get(wildcardAddress);
+        if (transformations == null) {
+            transformations = Collections.unmodifiableList(registry.getPathTransformations(wildcardAddress, null));
+            cacheResolved(resolved.pathTransformations, wildcardAddress, transformations);
+        }
+        return transformations;
     }
 
     @Override
@@ -167,8 +188,18 @@ public class TransformationTargetImpl implements TransformationTarget {
         if (version.getMajor() < 3 && ModelDescriptionConstants.QUERY.equals(operationName)) { // TODO use transformer inheritance and register this normally
             return QueryOperationHandler.TRANSFORMER;
         }
-        final OperationTransformerRegistry.OperationTransformerEntry entry = registry.resolveOperationTransformer(address, operationName, placeholderResolver);
-        return entry.getTransformer();
+        if (placeholderResolver != null) {
+            return registry.resolveOperationTransformer(address, operationName, placeholderResolver).getTransformer();
+        }
+        final PathAddress wildcardAddress = registry.getWildcardAddress(address);
+        final OperationLookup lookup = new OperationLookup(wildcardAddress, operationName);
+        final ResolvedLookups resolved = resolvedLookups;
+        OperationTransformer transformer = resolved.operationTransformers.get(lookup);
+        if (transformer == null) {
+            transformer = registry.resolveOperationTransformer(wildcardAddress, operationName, null).getTransformer();
+            cacheResolved(resolved.operationTransformers, lookup, transformer);
+        }
+        return transformer;
     }
 
     @Override
@@ -180,6 +211,8 @@ public class TransformationTargetImpl implements TransformationTarget {
     public void addSubsystemVersion(final String subsystemName, final ModelVersion version) {
         this.subsystemVersions.put(subsystemName, version);
         transformerRegistry.addSubsystem(registry, subsystemName, version);
+        // The merged subsystem may replace what was resolved before; only swap the tables once it is merged
+        resolvedLookups = new ResolvedLookups();
     }
 
     @Override
@@ -208,4 +241,47 @@ public class TransformationTargetImpl implements TransformationTarget {
         }
         return false;
     }
+
+    private static <K, V> void cacheResolved(final Map<K, V> resolved, final K key, final V value) {
+        if (resolved.size() >= MAX_RESOLVED_LOOKUPS) {
+            final Iterator<K> iterator = resolved.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        resolved.put(key, value);
+    }
+
+    private static final class ResolvedLookups {
+        private final Map<OperationLookup, OperationTransformer> operationTransformers = new ConcurrentHashMap<OperationLookup, OperationTransformer>();
+        private final Map<PathAddress, List<PathAddressTransformer>> pathTransformations = new ConcurrentHashMap<PathAddress, List<PathAddressTransformer>>();
+    }
+
+    private static final class OperationLookup {
+        private final PathAddress address;
+        private final String operationName;
+
+        private OperationLookup(final PathAddress address, final String operationName) {
+            this.address = address;
+            this.operationName = operationName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof OperationLookup)) {
+                return false;
+            }
+            final OperationLookup other = (OperationLookup) o;
+            return address.equals(other.address) && operationName.equals(other.operationName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * address.hashCode() + operationName.hashCode();
+        }
+    }
 }
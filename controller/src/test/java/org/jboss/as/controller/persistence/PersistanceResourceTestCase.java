@@ -114,6 +114,53 @@ public class PersistanceResourceTestCase {
         Assert.assertFalse(historyDir.exists());
     }
 
+    @Test
+    public void testCoalescedFileResource() throws Exception {
+        Assert.assertNull(CoalescingConfigurationWriter.create());
+        System.setProperty(CoalescingConfigurationWriter.WINDOW_PROPERTY, "60000");
+        final CoalescingConfigurationWriter writer;
+        try {
+            writer = CoalescingConfigurationWriter.create();
+        } finally {
+            System.clearProperty(CoalescingConfigurationWriter.WINDOW_PROPERTY);
+        }
+        Assert.assertNotNull(writer);
+
+        assertFileContents(standardFile, "std");
+        TestFileResourcePersister persister = new TestFileResourcePersister(standardFile);
+        writer.store(() -> persister.create(new ModelNode("One")), false).commit();
+        writer.store(() -> persister.create(new ModelNode("Two")), false).rollback();
+        writer.store(() -> persister.create(new ModelNode("Three")), false).commit();
+        // Nothing is written until the window has passed or the writer is flushed
+        assertFileContents(standardFile, "std");
+        CoalescingConfigurationWriter.flushAll();
+        assertFileContents(standardFile, "Three");
+        writer.flush();
+        assertFileContents(standardFile, "Three");
+
+        // A change which asks to be flushed is written on commit, superseding the pending one
+        writer.store(() -> persister.create(new ModelNode("Four")), false).commit();
+        writer.store(() -> persister.create(new ModelNode("Five")), true).commit();
+        assertFileContents(standardFile, "Five");
+        writer.flush();
+        assertFileContents(standardFile, "Five");
+
+        // A deferred write which cannot be marshalled is logged, and the next store is written as if it was flushed
+        writer.store(() -> {
+            throw new ConfigurationPersistenceException("marshalling failed");
+        }, false).commit();
+        writer.flush();
+        assertFileContents(standardFile, "Five");
+        writer.store(() -> persister.create(new ModelNode("Six")), false).commit();
+        assertFileContents(standardFile, "Six");
+
+        // Once a write succeeds, changes are coalesced again
+        writer.store(() -> persister.create(new ModelNode("Seven")), false).commit();
+        assertFileContents(standardFile, "Six");
+        writer.flush();
+        assertFileContents(standardFile, "Seven");
+    }
+
     @Test
     public void testDefaultPersistentConfigurationFile() throws Exception {
         assertFileContents(standardFile, "std");
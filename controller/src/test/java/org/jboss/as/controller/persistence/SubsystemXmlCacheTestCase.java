@@ -0,0 +1,212 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that {@link SubsystemXmlCache} only invokes the writers of the subsystems affected by a change.
+ */
+public class SubsystemXmlCacheTestCase {
+
+    private final Map<String, Integer> writes = new HashMap<>();
+    private CachingPersister persister;
+
+    @Before
+    public void setup() {
+        writes.clear();
+        persister = new CachingPersister();
+        persister.registerSubsystemWriter("one", new CountingSubsystemWriter("one"));
+        persister.registerSubsystemWriter("two", new CountingSubsystemWriter("two"));
+    }
+
+    @Test
+    public void testUnaffectedSubsystemsAreReplayed() throws Exception {
+        store(createModel("a", "b"));
+        assertWrites(1, 1);
+
+        final ModelNode model = createModel("c", "b");
+        final String xml = store(model, PathAddress.pathAddress(SUBSYSTEM, "one").append("child", "x"));
+        assertWrites(2, 1);
+        Assert.assertEquals(marshall(model.clone()), xml);
+        Assert.assertTrue(xml, xml.contains("value=\"c\""));
+        Assert.assertTrue(xml, xml.contains("value=\"b\""));
+    }
+
+    @Test
+    public void testRootChangeInvalidatesAll() throws Exception {
+        store(createModel("a", "b"));
+        store(createModel("a", "b"), PathAddress.EMPTY_ADDRESS);
+        assertWrites(2, 2);
+    }
+
+    @Test
+    public void testRollbackInvalidates() throws Exception {
+        store(createModel("a", "b"));
+        persister.store(createModel("a", "c"), Collections.singleton(PathAddress.pathAddress(SUBSYSTEM, "two"))).rollback();
+        assertWrites(1, 2);
+
+        final ModelNode model = createModel("a", "b");
+        final String xml = store(model);
+        assertWrites(1, 3);
+        Assert.assertEquals(marshall(model.clone()), xml);
+    }
+
+    @Test
+    public void testOnlyStoredModelIsCached() throws Exception {
+        marshall(createModel("a", "b"));
+        marshall(createModel("a", "b"));
+        assertWrites(2, 2);
+    }
+
+    @Test
+    public void testChangedWriterIsInvoked() throws Exception {
+        store(createModel("a", "b"));
+        persister.registerSubsystemWriter("two", new CountingSubsystemWriter("two"));
+        store(createModel("a", "b"));
+        assertWrites(1, 2);
+    }
+
+    private String store(final ModelNode model, final PathAddress... affected) throws ConfigurationPersistenceException {
+        final Set<PathAddress> affectedAddresses = new HashSet<>();
+        Collections.addAll(affectedAddresses, affected);
+        persister.store(model, affectedAddresses).commit();
+        return persister.last;
+    }
+
+    private String marshall(final ModelNode model) throws ConfigurationPersistenceException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        persister.marshallAsXml(model, output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void assertWrites(final int one, final int two) {
+        Assert.assertEquals(Integer.valueOf(one), writes.get("one"));
+        Assert.assertEquals(Integer.valueOf(two), writes.get("two"));
+    }
+
+    private static ModelNode createModel(final String one, final String two) {
+        final ModelNode model = new ModelNode();
+        model.get(SUBSYSTEM, "one", "value").set(one);
+        model.get(SUBSYSTEM, "two", "value").set(two);
+        return model;
+    }
+
+    private class CountingSubsystemWriter implements XMLElementWriter<SubsystemMarshallingContext> {
+
+        private final String name;
+
+        CountingSubsystemWriter(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void writeContent(XMLExtendedStreamWriter writer, SubsystemMarshallingContext context) throws XMLStreamException {
+            writes.merge(name, 1, Integer::sum);
+            context.startSubsystemElement("urn:test:" + name, false);
+            writer.writeAttribute("value", context.getModelNode().get("value").asString());
+            writer.writeStartElement("child");
+            writer.writeCharacters(name);
+            writer.writeEndElement();
+            writer.writeEndElement();
+        }
+    }
+
+    private static class RootWriter implements XMLElementWriter<ModelMarshallingContext> {
+
+        @Override
+        public void writeContent(XMLExtendedStreamWriter writer, ModelMarshallingContext context) throws XMLStreamException {
+            writer.writeStartDocument();
+            writer.setDefaultNamespace("urn:test:root");
+            writer.writeStartElement("server");
+            writer.writeDefaultNamespace("urn:test:root");
+            final ModelNode subsystems = context.getModelNode().get(SUBSYSTEM);
+            for (String name : subsystems.keys()) {
+                context.getSubsystemWriter(name).writeContent(writer, new SubsystemMarshallingContext(subsystems.get(name), writer));
+                writer.setDefaultNamespace("urn:test:root");
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        }
+    }
+
+    private static class MarshallingResource implements ConfigurationPersister.PersistenceResource {
+
+        private final CachingPersister persister;
+        private final String xml;
+
+        MarshallingResource(final CachingPersister persister, final ModelNode model) throws ConfigurationPersistenceException {
+            this.persister = persister;
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            persister.marshallAsXml(model, output);
+            this.xml = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void commit() {
+            persister.last = xml;
+        }
+
+        @Override
+        public void rollback() {
+        }
+    }
+
+    private static class CachingPersister extends AbstractConfigurationPersister {
+
+        private String last;
+
+        CachingPersister() {
+            super(new RootWriter());
+        }
+
+        @Override
+        public PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
+            return subsystemXmlCache.store(model, affectedAddresses, () -> new MarshallingResource(this, model));
+        }
+
+        @Override
+        public List<ModelNode> load() throws ConfigurationPersistenceException {
+            return Collections.emptyList();
+        }
+    }
+}
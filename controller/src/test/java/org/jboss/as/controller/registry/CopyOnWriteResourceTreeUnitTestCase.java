@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.controller.PathElement;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link CopyOnWriteResourceTree}.
+ */
+public class CopyOnWriteResourceTreeUnitTestCase {
+
+    private static final PathElement SUBSYSTEM_A = PathElement.pathElement("subsystem", "a");
+    private static final PathElement SUBSYSTEM_B = PathElement.pathElement("subsystem", "b");
+    private static final PathElement SUBSYSTEM_C = PathElement.pathElement("subsystem", "c");
+    private static final PathElement CHILD = PathElement.pathElement("child", "one");
+
+    private Resource published;
+
+    @Before
+    public void setup() {
+        published = Resource.Factory.create();
+        published.getModel().get("attr").set("root");
+        for (PathElement pe : new PathElement[] {SUBSYSTEM_A, SUBSYSTEM_B, SUBSYSTEM_C}) {
+            Resource subsystem = Resource.Factory.create();
+            subsystem.getModel().get("attr").set(pe.getValue());
+            Resource child = Resource.Factory.create();
+            child.getModel().get("attr").set("child");
+            subsystem.registerChild(CHILD, child);
+            published.registerChild(pe, subsystem);
+        }
+    }
+
+    @Test
+    public void testPathCopy() {
+        CopyOnWriteResourceTree tree = new CopyOnWriteResourceTree(published);
+        Resource root = tree.getRoot();
+        Assert.assertNotSame(published, root);
+
+        Resource b = tree.getChildForUpdate(root, SUBSYSTEM_B);
+        Assert.assertNotSame(published.getChild(SUBSYSTEM_B), b);
+        Resource child = tree.getResourceForUpdate(tree.getChildForUpdate(b, CHILD));
+        child.getModel().get("attr").set("updated");
+
+        // Siblings not on the path are shared
+        Assert.assertSame(published.getChild(SUBSYSTEM_A), root.getChild(SUBSYSTEM_A));
+        Assert.assertSame(published.getChild(SUBSYSTEM_C), root.getChild(SUBSYSTEM_C));
+        // The published tree is unchanged
+        Assert.assertEquals("child", published.getChild(SUBSYSTEM_B).getChild(CHILD).getModel().get("attr").asString());
+        Assert.assertEquals("updated", root.getChild(SUBSYSTEM_B).getChild(CHILD).getModel().get("attr").asString());
+        // Repeated access returns the same copy
+        Assert.assertSame(b, tree.getChildForUpdate(root, SUBSYSTEM_B));
+        Assert.assertSame(child, tree.getChildForUpdate(b, CHILD));
+    }
+
+    @Test
+    public void testChildOrderPreserved() {
+        CopyOnWriteResourceTree tree = new CopyOnWriteResourceTree(published);
+        Resource root = tree.getRoot();
+        tree.getChildForUpdate(root, SUBSYSTEM_A);
+        tree.getChildForUpdate(root, SUBSYSTEM_B);
+        List<String> names = new ArrayList<>(root.getChildrenNames("subsystem"));
+        Assert.assertEquals(new ArrayList<>(published.getChildrenNames("subsystem")), names);
+    }
+
+    @Test
+    public void testResourceForUpdateIsPrivate() {
+        CopyOnWriteResourceTree tree = new CopyOnWriteResourceTree(published);
+        Resource root = tree.getResourceForUpdate(tree.getRoot());
+        for (PathElement pe : new PathElement[] {SUBSYSTEM_A, SUBSYSTEM_B, SUBSYSTEM_C}) {
+            Resource subsystem = root.getChild(pe);
+            Assert.assertNotSame(published.getChild(pe), subsystem);
+            Assert.assertNotSame(published.getChild(pe).getChild(CHILD), subsystem.getChild(CHILD));
+            subsystem.getChild(CHILD).getModel().get("attr").set("updated");
+            Assert.assertEquals("child", published.getChild(pe).getChild(CHILD).getModel().get("attr").asString());
+        }
+    }
+
+    @Test
+    public void testRegisterAndRemove() {
+        CopyOnWriteResourceTree tree = new CopyOnWriteResourceTree(published);
+        Resource root = tree.getRoot();
+        Resource a = tree.getChildForUpdate(root, SUBSYSTEM_A);
+        Resource added = Resource.Factory.create();
+        tree.registerChild(a, PathElement.pathElement("child", "two"), -1, added);
+        // A resource added during the write is private, so is returned as is
+        Assert.assertSame(added, tree.getChildForUpdate(a, PathElement.pathElement("child", "two")));
+        Assert.assertFalse(published.getChild(SUBSYSTEM_A).hasChild(PathElement.pathElement("child", "two")));
+
+        Resource removed = tree.removeChild(root, SUBSYSTEM_C);
+        Assert.assertSame(published.getChild(SUBSYSTEM_C), removed);
+        Assert.assertFalse(root.hasChild(SUBSYSTEM_C));
+        Assert.assertTrue(published.hasChild(SUBSYSTEM_C));
+
+        // Adding back a resource that is still part of the published tree must not expose it to updates
+        tree.registerChild(root, SUBSYSTEM_C, -1, removed);
+        Resource c = tree.getResourceForUpdate(tree.getChildForUpdate(root, SUBSYSTEM_C));
+        Assert.assertNotSame(removed, c);
+        c.getModel().get("attr").set("updated");
+        Assert.assertEquals("c", published.getChild(SUBSYSTEM_C).getModel().get("attr").asString());
+    }
+}
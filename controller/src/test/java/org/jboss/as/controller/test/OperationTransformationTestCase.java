@@ -231,6 +231,51 @@ public class OperationTransformationTestCase {
 
     }
 
+    @Test
+    public void testResolvedTransformersFollowAddedSubsystem() throws Exception {
+
+        final ModelVersion subsystem = ModelVersion.create(1, 2);
+        final TransformerRegistry registry = TransformerRegistry.Factory.create();
+        TransformersSubRegistration sub = registry.registerSubsystemTransformers("test", subsystem, ResourceTransformer.DISCARD);
+        sub.registerOperationTransformer("test", OPERATION_TRANSFORMER);
+
+        final TransformationTarget host = create(registry, ModelVersion.create(1, 2, 3));
+        final PathAddress address = PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.PROFILE, "test"),
+                PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, "test"));
+
+        final OperationTransformer forward = host.resolveTransformer(new MockTransformationContext(), address, "test");
+        Assert.assertNotSame(OPERATION_TRANSFORMER, forward);
+        Assert.assertSame(forward, host.resolveTransformer(new MockTransformationContext(), address, "test"));
+        Assert.assertEquals(2, host.getPathTransformation(address).size());
+
+        // Lookups resolved before the subsystem was known must not be reused
+        host.addSubsystemVersion("test", subsystem);
+        Assert.assertSame(OPERATION_TRANSFORMER, host.resolveTransformer(new MockTransformationContext(), address, "test"));
+        Assert.assertSame(OPERATION_TRANSFORMER, host.resolveTransformer(new MockTransformationContext(), address, "test"));
+        Assert.assertEquals(2, host.getPathTransformation(address).size());
+    }
+
+    @Test
+    public void testWildcardAddress() {
+
+        final ModelVersion subsystem = ModelVersion.create(1, 2);
+        final TransformerRegistry registry = TransformerRegistry.Factory.create();
+        registry.registerSubsystemTransformers("test", subsystem, ResourceTransformer.DISCARD);
+        final OperationTransformerRegistry host = registry.resolveHost(ModelVersion.create(1, 2, 3),
+                Collections.singletonMap(PathAddress.pathAddress(ModelDescriptionConstants.SUBSYSTEM, "test"), subsystem));
+
+        // Profiles are only registered as a wildcard, the subsystem by name, and nothing below it
+        final PathAddress address = PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.PROFILE, "default"),
+                PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, "test"), PathElement.pathElement("child", "one"));
+        Assert.assertEquals(PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.PROFILE),
+                PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, "test"), PathElement.pathElement("child")),
+                host.getWildcardAddress(address));
+
+        final PathAddress registered = PathAddress.pathAddress(PathElement.pathElement(ModelDescriptionConstants.PROFILE),
+                PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, "test"));
+        Assert.assertSame(registered, host.getWildcardAddress(registered));
+    }
+
     protected TransformationTarget create(final TransformerRegistry registry, ModelVersion version) {
         return create(registry, version, TransformationTarget.TransformationTargetType.HOST);
     }
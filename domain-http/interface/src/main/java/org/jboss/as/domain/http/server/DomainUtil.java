@@ -31,6 +31,9 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
@@ -77,9 +80,19 @@ public class DomainUtil {
             response = response.get(RESULT);
         }
         try {
-            byte[] data = getResponseBytes(response, operationParameter);
-            responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
-            exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            if (exchange.isInIoThread()) {
+                // We can't block the IO thread, so send the response in one go
+                byte[] data = getResponseBytes(response, operationParameter);
+                responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
+                exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            } else {
+                // Serialize directly to the response rather than to a String and then a byte[], as for e.g.
+                // a recursive read-resource of a large model those are several times the size of the node itself
+                exchange.startBlocking();
+                try (OutputStream out = new BufferedOutputStream(exchange.getOutputStream())) {
+                    writeResponse(response, operationParameter, out);
+                }
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -168,15 +181,20 @@ public class DomainUtil {
     }
 
     private static byte[] getResponseBytes(final ModelNode modelNode, final OperationParameter operationParameter) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        BufferedOutputStream out = new BufferedOutputStream(baos);
+        writeResponse(modelNode, operationParameter, out);
+        out.flush();
+        return baos.toByteArray();
+    }
+
+    private static void writeResponse(final ModelNode modelNode, final OperationParameter operationParameter, final OutputStream out) throws IOException {
         if (operationParameter.isEncode()) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            BufferedOutputStream out = new BufferedOutputStream(baos);
             modelNode.writeBase64(out);
-            out.flush();
-            return baos.toByteArray();
         } else {
-            String json = modelNode.toJSONString(!operationParameter.isPretty());
-            return json.getBytes(StandardCharsets.UTF_8);
+            PrintWriter print = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            modelNode.writeJSONString(print, !operationParameter.isPretty());
+            print.flush();
         }
     }
 
@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil.DOMAIN_RESOURCE_ADDRESS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * Sends a reconnecting slave host only the parts of the domain model that changed since it last synchronized.
+ * <p/>
+ * The {@link ReadMasterDomainModelUtil#getDescribedResources() described resources} are grouped by their top level
+ * resource, e.g. a profile or a server group, with the root resource in a group of its own. As the resources are
+ * described depth first, each group is a contiguous part of the list. A slave that has synchronized before sends the
+ * digests of the groups it received last time. The master then sends the digests of all its groups, but only the
+ * resources of the groups whose digest differs. The slave rebuilds the complete list from those and the groups it
+ * already has, and verifies the result against the digests of the master. If they don't match, the slave should
+ * discard what it has, so that it gets the complete model next time.
+ */
+public final class DomainModelDelta {
+
+    /** The digests of the groups of resources a slave has, sent in its host info */
+    public static final String DOMAIN_MODEL_DIGESTS = "domain-model-digests";
+
+    /** The resources of the groups that changed */
+    public static final String CHANGED_DOMAIN_RESOURCES = "changed-domain-resources";
+
+    private static final String ROOT_GROUP = "/";
+
+    private DomainModelDelta() {
+    }
+
+    /**
+     * Calculates the digests of the groups of the described resources.
+     *
+     * @param describedResources the described resources
+     * @return the digest of each group, in the order of the groups
+     */
+    public static ModelNode digest(final List<ModelNode> describedResources) {
+        final ModelNode digests = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, List<ModelNode>> group : group(describedResources).entrySet()) {
+            digests.get(group.getKey()).set(digestGroup(group.getValue()));
+        }
+        return digests;
+    }
+
+    /**
+     * Creates the delta between the described resources and the groups a slave has.
+     *
+     * @param describedResources the described resources
+     * @param knownDigests the digests of the groups the slave has
+     * @return the digests of all groups and the resources of the groups that differ from the ones the slave has
+     */
+    public static ModelNode createDelta(final List<ModelNode> describedResources, final ModelNode knownDigests) {
+        final ModelNode delta = new ModelNode();
+        final ModelNode digests = delta.get(DOMAIN_MODEL_DIGESTS).setEmptyObject();
+        final ModelNode changed = delta.get(CHANGED_DOMAIN_RESOURCES).setEmptyList();
+        for (Map.Entry<String, List<ModelNode>> group : group(describedResources).entrySet()) {
+            final byte[] digest = digestGroup(group.getValue());
+            digests.get(group.getKey()).set(digest);
+            if (!knownDigests.hasDefined(group.getKey()) || !MessageDigest.isEqual(digest, knownDigests.get(group.getKey()).asBytes())) {
+                for (ModelNode resource : group.getValue()) {
+                    changed.add(resource);
+                }
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Checks whether a read-master-domain-model result is a delta rather than the complete list of resources.
+     *
+     * @param result the result
+     * @return {@code true} if the result is a delta
+     */
+    public static boolean isDelta(final ModelNode result) {
+        return result.getType() == ModelType.OBJECT && result.has(DOMAIN_MODEL_DIGESTS);
+    }
+
+    /**
+     * Rebuilds the complete list of described resources from a delta and the resources the slave has.
+     *
+     * @param delta the delta
+     * @param knownResources the described resources the slave has
+     * @return the complete list of described resources, or {@code null} if it does not match the digests of the master
+     */
+    public static List<ModelNode> applyDelta(final ModelNode delta, final List<ModelNode> knownResources) {
+        final Map<String, List<ModelNode>> known = group(knownResources);
+        final Map<String, List<ModelNode>> changed = group(delta.get(CHANGED_DOMAIN_RESOURCES).asList());
+        final List<ModelNode> result = new ArrayList<>();
+        for (Property property : delta.get(DOMAIN_MODEL_DIGESTS).asPropertyList()) {
+            List<ModelNode> group = changed.get(property.getName());
+            if (group == null) {
+                group = known.get(property.getName());
+            }
+            if (group == null || !MessageDigest.isEqual(property.getValue().asBytes(), digestGroup(group))) {
+                return null;
+            }
+            result.addAll(group);
+        }
+        return result;
+    }
+
+    private static Map<String, List<ModelNode>> group(final List<ModelNode> describedResources) {
+        final Map<String, List<ModelNode>> groups = new LinkedHashMap<>();
+        for (ModelNode resource : describedResources) {
+            final PathAddress address = PathAddress.pathAddress(resource.get(DOMAIN_RESOURCE_ADDRESS));
+            final String key;
+            if (address.size() == 0) {
+                key = ROOT_GROUP;
+            } else {
+                final PathElement element = address.getElement(0);
+                key = element.getKey() + '=' + element.getValue();
+            }
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(resource);
+        }
+        return groups;
+    }
+
+    private static byte[] digestGroup(final List<ModelNode> resources) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                digest.update(b, off, len);
+            }
+        };
+        try {
+            for (ModelNode resource : resources) {
+                resource.writeExternal(out);
+            }
+        } catch (IOException e) {
+            // cannot happen, nothing is written to a stream that can fail
+            throw new IllegalStateException(e);
+        }
+        return digest.digest();
+    }
+}
@@ -34,6 +34,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUS
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +59,7 @@ import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.domain.controller.resources.DomainResolver;
 import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.process.ProcessInfo;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -237,7 +239,7 @@ public class DomainServerLifecycleHandlers {
                     final String hostName = model.get(HOST).keys().iterator().next();
                     final ModelNode serverConfig = model.get(HOST, hostName).get(SERVER_CONFIG);
                     final Set<String> serversInGroup = getServersForGroup(model, group);
-                    final Set<String> waitForServers = new HashSet<String>();
+                    final Set<String> waitForServers = new LinkedHashSet<String>();
                     if (serverConfig.isDefined()) {
                         // Even though we don't read from the service registry, we are modifying a service
                         context.getServiceRegistry(true);
@@ -248,14 +250,18 @@ public class DomainServerLifecycleHandlers {
                                     if (status != ServerStatus.STOPPED) {
                                         serverInventory.stopServer(config.getName(), 0);
                                     }
-                                    serverInventory.startServer(config.getName(), model, false, suspend);
                                     waitForServers.add(config.getName());
                                 }
                             }
                         }
+                        final Set<String> failedServers = serverInventory.startServers(waitForServers, model, false, suspend);
+                        waitForServers.removeAll(failedServers);
                         if (blocking) {
                             serverInventory.awaitServersState(waitForServers, true);
                         }
+                        if (!failedServers.isEmpty()) {
+                            throw HostControllerLogger.ROOT_LOGGER.failedToStartServers(failedServers);
+                        }
                     }
                     context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
                 }
@@ -283,17 +289,21 @@ public class DomainServerLifecycleHandlers {
                     context.getServiceRegistry(true);
                     Map<String, ProcessInfo> processes = serverInventory.determineRunningProcesses(true);
                     final Set<String> serversInGroup = getServersForGroup(model, group);
-                    final Set<String> waitForServers = new HashSet<String>();
+                    final Set<String> waitForServers = new LinkedHashSet<String>();
                     for (String serverName : processes.keySet()) {
                         final String serverModelName = serverInventory.getProcessServerName(serverName);
                         if (group == null || serversInGroup.contains(serverModelName)) {
-                            serverInventory.restartServer(serverModelName, timeout > 0 ? timeout * 1000 : timeout, model, false, suspend);
                             waitForServers.add(serverModelName);
                         }
                     }
+                    final Set<String> failedServers = serverInventory.restartServers(waitForServers, timeout > 0 ? timeout * 1000 : timeout, model, suspend);
+                    waitForServers.removeAll(failedServers);
                     if (blocking) {
                         serverInventory.awaitServersState(waitForServers, true);
                     }
+                    if (!failedServers.isEmpty()) {
+                        throw HostControllerLogger.ROOT_LOGGER.failedToStartServers(failedServers);
+                    }
                     context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
                 }
             }, Stage.RUNTIME);
@@ -38,11 +38,22 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final ModelNode knownDigests;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null);
+    }
+
+    /**
+     * @param knownDigests the {@link DomainModelDelta#digest(java.util.List) digests} of the domain model the slave
+     *                     already has, in which case only a {@link DomainModelDelta delta} is read. May be {@code null}
+     */
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers,
+                           final boolean lock, final ModelNode knownDigests) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.knownDigests = knownDigests;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -55,7 +66,11 @@ class ReadDomainModelHandler implements OperationStepHandler {
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
         final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
                 transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+        if (knownDigests != null && knownDigests.isDefined()) {
+            context.getResult().set(DomainModelDelta.createDelta(readUtil.getDescribedResources(), knownDigests));
+        } else {
+            context.getResult().set(readUtil.getDescribedResources());
+        }
     }
 
 }
@@ -33,6 +33,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOS
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILED_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILURE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_SERVERS_PER_HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -45,6 +46,8 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SER
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_SIZE;
 import static org.jboss.as.domain.controller.logging.DomainControllerLogger.HOST_CONTROLLER_LOGGER;
 
 import java.util.ArrayList;
@@ -477,6 +480,27 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
                 throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanLess(prop.getName(), MAX_FAILED_SERVERS, max));
             }
         }
+        if (plan.hasDefined(WAVE_PERCENTAGE)) {
+            if (plan.has(WAVE_SIZE)) {
+                plan.remove(WAVE_SIZE);
+            }
+            int pct = plan.get(WAVE_PERCENTAGE).asInt();
+            if (pct < 0 || pct > 100) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanRange(prop.getName(), WAVE_PERCENTAGE, pct));
+            }
+        }
+        if (plan.hasDefined(WAVE_SIZE)) {
+            int size = plan.get(WAVE_SIZE).asInt();
+            if (size < 1) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanLessThanOne(prop.getName(), WAVE_SIZE, size));
+            }
+        }
+        if (plan.hasDefined(MAX_SERVERS_PER_HOST)) {
+            int max = plan.get(MAX_SERVERS_PER_HOST).asInt();
+            if (max < 1) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanLessThanOne(prop.getName(), MAX_SERVERS_PER_HOST, max));
+            }
+        }
     }
 
     private ModelNode getDefaultRolloutPlan(Map<String, Map<ServerIdentity, ModelNode>> opsByGroup) {
@@ -29,13 +29,21 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPE
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.domain.controller.logging.DomainControllerLogger.HOST_CONTROLLER_LOGGER;
 
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -54,6 +62,7 @@ import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.controller.transform.Transformers;
 import org.jboss.dmr.ModelNode;
 import org.jboss.threads.AsyncFuture;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Executes the first phase of a two phase operation on one or more remote, slave host controllers.
@@ -62,13 +71,28 @@ import org.jboss.threads.AsyncFuture;
  */
 public class DomainSlaveHandler implements OperationStepHandler {
 
+    /** The maximum number of hosts the operation is transformed for and sent to concurrently */
+    private static final int MAX_CONCURRENT_HOST_REQUESTS = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged("jboss.as.domain.max.concurrent.host.requests", "16"));
+
     private final MultiphaseOverallContext multiphaseContext;
     private final Map<String, ProxyController> hostProxies;
+    private final ExecutorService executorService;
 
     public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
                               final MultiphaseOverallContext domainOperationContext) {
+        this(hostProxies, domainOperationContext, null);
+    }
+
+    /**
+     * @param executorService executor used to send the operation to several hosts at once, or {@code null} to send
+     *                        it to one host after the other
+     */
+    public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
+                              final MultiphaseOverallContext domainOperationContext,
+                              final ExecutorService executorService) {
         this.hostProxies = hostProxies;
         this.multiphaseContext = domainOperationContext;
+        this.executorService = executorService;
     }
 
     @Override
@@ -83,31 +107,22 @@ public class DomainSlaveHandler implements OperationStepHandler {
         final BlockingTimeout blockingTimeout = BlockingTimeout.Factory.getDomainBlockingTimeout(context);
         final Set<String> outstanding = new HashSet<String>(hostProxies.keySet());
         final List<TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation>> results = new ArrayList<TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation>>();
-        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults = new HashMap<String, HostControllerUpdateTask.ExecutedHostRequest>();
         final HostControllerUpdateTask.ProxyOperationListener listener = new HostControllerUpdateTask.ProxyOperationListener();
         final Transformers.TransformationInputs transformationInputs = Transformers.TransformationInputs.getOrCreate(context);
         final List<DomainOperationTransformer> transformers = context.getAttachment(OperationAttachments.SLAVE_SERVER_OPERATION_TRANSFORMERS);
-        for (Map.Entry<String, ProxyController> entry : hostProxies.entrySet()) {
-            // Create the proxy task
-            final String host = entry.getKey();
-            final TransformingProxyController proxyController = (TransformingProxyController) entry.getValue();
-            ModelNode clonedOp = operation.clone();
-            if (transformers != null) {
-                for (final DomainOperationTransformer transformer : transformers) {
-                    clonedOp = transformer.transform(context, clonedOp);
-                }
+        // The domain operation transformers do not depend on the host, so only apply them once
+        ModelNode slaveOp = operation.clone();
+        if (transformers != null) {
+            for (final DomainOperationTransformer transformer : transformers) {
+                slaveOp = transformer.transform(context, slaveOp);
             }
-
-            // Set the flags for host controller operations
-            clonedOp.get(OPERATION_HEADERS, EXECUTE_FOR_COORDINATOR).set(true);
-            clonedOp.get(OPERATION_HEADERS, DomainControllerLockIdUtils.DOMAIN_CONTROLLER_LOCK_ID).set(CurrentOperationIdHolder.getCurrentOperationID());
-            final HostControllerUpdateTask task = new HostControllerUpdateTask(host, clonedOp, context, proxyController, transformationInputs);
-            // Execute the operation on the remote host
-            final HostControllerUpdateTask.ExecutedHostRequest finalResult = task.execute(listener);
-            multiphaseContext.recordHostRequest(host, finalResult);
-            finalResults.put(host, finalResult);
         }
 
+        // Set the flags for host controller operations
+        slaveOp.get(OPERATION_HEADERS, EXECUTE_FOR_COORDINATOR).set(true);
+        slaveOp.get(OPERATION_HEADERS, DomainControllerLockIdUtils.DOMAIN_CONTROLLER_LOCK_ID).set(CurrentOperationIdHolder.getCurrentOperationID());
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults = executeOnHosts(slaveOp, context, transformationInputs, listener);
+
         // Wait for all hosts to reach the prepared state
         boolean interrupted = false;
         boolean completeStepCalled = false;
@@ -178,6 +193,110 @@ public class DomainSlaveHandler implements OperationStepHandler {
         }
     }
 
+    /**
+     * Transforms the operation for each host and sends it, using up to {@link #MAX_CONCURRENT_HOST_REQUESTS} threads
+     * including the calling one. Prepared results are reported to the listener as they arrive, so hosts that have
+     * already been sent the operation execute it while the remaining ones are being dispatched.
+     * <p>
+     * The helper threads dispatch under the access control context of the calling thread, so the caller's
+     * {@code Subject} is sent to every host whichever thread the operation is sent from. Each host is recorded in the
+     * multiphase context as soon as it has been sent the operation, and this only returns once every dispatching
+     * thread is done, so no host that was sent the operation is left without a commit or rollback.
+     *
+     * @return the executed requests, by host name
+     */
+    Map<String, HostControllerUpdateTask.ExecutedHostRequest> executeOnHosts(final ModelNode slaveOp, final OperationContext context,
+                                                                             final Transformers.TransformationInputs transformationInputs,
+                                                                             final HostControllerUpdateTask.ProxyOperationListener listener) {
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> executed = new ConcurrentHashMap<String, HostControllerUpdateTask.ExecutedHostRequest>();
+        final Queue<Map.Entry<String, ProxyController>> pending = new ConcurrentLinkedQueue<Map.Entry<String, ProxyController>>(hostProxies.entrySet());
+        final Runnable dispatcher = new Runnable() {
+            @Override
+            public void run() {
+                Map.Entry<String, ProxyController> entry;
+                while ((entry = pending.poll()) != null) {
+                    final String host = entry.getKey();
+                    final TransformingProxyController proxyController = (TransformingProxyController) entry.getValue();
+                    // The task adds headers to the operation it sends, so each host gets its own copy
+                    final HostControllerUpdateTask task = new HostControllerUpdateTask(host, slaveOp.clone(), context, proxyController, transformationInputs);
+                    // Execute the operation on the remote host; failures are reported as a failed prepared result
+                    final HostControllerUpdateTask.ExecutedHostRequest request = task.execute(listener);
+                    multiphaseContext.recordHostRequest(host, request);
+                    executed.put(host, request);
+                }
+            }
+        };
+
+        final List<Future<?>> helpers = new ArrayList<Future<?>>();
+        if (executorService != null) {
+            final int helperCount = Math.min(MAX_CONCURRENT_HOST_REQUESTS, hostProxies.size()) - 1;
+            final AccessControlContext callerContext = AccessController.getContext();
+            final Runnable helper = new Runnable() {
+                @Override
+                public void run() {
+                    AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                        @Override
+                        public Void run() {
+                            dispatcher.run();
+                            return null;
+                        }
+                    }, callerContext);
+                }
+            };
+            try {
+                for (int i = 0; i < helperCount; i++) {
+                    helpers.add(executorService.submit(helper));
+                }
+            } catch (RejectedExecutionException e) {
+                // Whatever is not picked up by a helper is dispatched by this thread
+            }
+        }
+        Throwable failure = null;
+        try {
+            dispatcher.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+
+        // Helpers that have not started yet would find nothing left to do; the others must finish their current host
+        boolean interrupted = false;
+        for (Future<?> helper : helpers) {
+            if (helper.cancel(false)) {
+                continue;
+            }
+            for (;;) {
+                try {
+                    helper.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            // Let the wait for the prepared results notice the interruption
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            // No prepared result will be awaited, so cancel what the hosts that were sent the operation have prepared
+            for (final HostControllerUpdateTask.ExecutedHostRequest request : executed.values()) {
+                request.asyncCancel();
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+        return executed;
+    }
+
     private void handleMissingHostResponses(Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults,
                                             Set<String> outstanding, boolean timedOut, long timeout) {
 
@@ -121,8 +121,8 @@ class HostControllerUpdateTask {
                 subsystemListener.operationPrepared(result);
                 return new ExecutedHostRequest(result.getFinalResult(), transformationResult);
             }
-        } catch (OperationFailedException e) {
-            // Handle transformation failures
+        } catch (OperationFailedException | RuntimeException e) {
+            // Handle transformation failures, and unexpected failures so the other hosts still get the operation
             final ProxyOperation proxyOperation = new ProxyOperation(name, operation, messageHandler, operationAttachments);
             final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.FailedOperation.create(proxyOperation, e);
             subsystemListener.operationPrepared(result);
@@ -28,7 +28,11 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
 
@@ -87,6 +91,69 @@ abstract class AbstractServerGroupRolloutTask implements Runnable {
      */
     protected abstract void execute();
 
+    /**
+     * Execute the given server tasks concurrently and wait for all of them to report a prepared result. Servers that
+     * time out are recorded as failed.
+     *
+     * @param serverTasks the tasks to execute
+     * @return {@code true} if the thread was interrupted while waiting for the prepared results
+     */
+    protected boolean executeConcurrently(final Collection<ServerUpdateTask> serverTasks) {
+        final Map<ServerIdentity, ServerUpdateTask> outstanding = new HashMap<>();
+        final ServerTaskExecutor.ServerOperationListener listener = new ServerTaskExecutor.ServerOperationListener();
+        int preparedTimeout = 0;
+        for(final ServerUpdateTask task : serverTasks) {
+            final ServerIdentity identity = task.getServerIdentity();
+            if (updatePolicy.canUpdateServer(identity) && !Thread.currentThread().isInterrupted()) {
+                // Execute the task
+                int serverTimeout = executor.executeTask(listener, task);
+                if (serverTimeout > -1) {
+                    outstanding.put(task.getServerIdentity(), task);
+                    if (serverTimeout > preparedTimeout) {
+                        preparedTimeout = serverTimeout;
+                    }
+                }
+            } else {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Skipping server update task for %s", identity);
+            }
+        }
+        boolean interrupted = false;
+        long deadline = System.currentTimeMillis() + preparedTimeout;
+        long remaining = preparedTimeout;
+        while (!interrupted && !outstanding.isEmpty() && remaining > 0) {
+            try {
+                // Wait for all prepared results
+                final TransactionalProtocolClient.PreparedOperation<ServerTaskExecutor.ServerOperation> prepared = listener.retrievePreparedOperation(remaining, TimeUnit.MILLISECONDS);
+                if (prepared == null) {
+                    // timed out
+                    break;
+                }
+                final ServerIdentity identity = prepared.getOperation().getIdentity();
+                recordPreparedOperation(identity, prepared);
+                outstanding.remove(identity);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+
+        if (!outstanding.isEmpty()) {
+            if (interrupted) {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.interruptedAwaitingPreparedResponse(getClass().getSimpleName(), outstanding.keySet());
+            } else {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.timedOutAwaitingPreparedResponse(getClass().getSimpleName(), preparedTimeout, outstanding.keySet());
+            }
+            for (Map.Entry<ServerIdentity, ServerUpdateTask> entry : outstanding.entrySet()) {
+                ServerIdentity identity = entry.getKey();
+                executor.cancelTask(identity);
+                if (!interrupted) {
+                    handlePreparePhaseTimeout(identity, entry.getValue(), preparedTimeout);
+                }
+            }
+        }
+        return interrupted;
+    }
+
     /**
      * Record a prepared operation.
      *
@@ -30,10 +30,13 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GRA
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILED_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILURE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_SERVERS_PER_HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ACROSS_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SHUTDOWN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_SIZE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -133,8 +136,15 @@ public class RolloutPlanController {
                     }
                     ServerUpdatePolicy policy = new ServerUpdatePolicy(parent, serverGroupName, servers, maxFailures);
 
-                    seriesTasks.add(rollingGroup ? new RollingServerGroupUpdateTask(groupTasks, policy, taskExecutor, subject, blockingTimeout)
-                        : new ConcurrentServerGroupUpdateTask(groupTasks, policy, taskExecutor, subject, blockingTimeout));
+                    final int waveSize = getWaveSize(policyNode, servers.size());
+                    final int maxServersPerHost = policyNode.hasDefined(MAX_SERVERS_PER_HOST) ? policyNode.get(MAX_SERVERS_PER_HOST).asInt() : 0;
+                    if (rollingGroup) {
+                        seriesTasks.add(new RollingServerGroupUpdateTask(groupTasks, policy, taskExecutor, subject, blockingTimeout));
+                    } else if (waveSize > 0 || maxServersPerHost > 0) {
+                        seriesTasks.add(new WaveServerGroupUpdateTask(groupTasks, policy, taskExecutor, subject, blockingTimeout, waveSize, maxServersPerHost));
+                    } else {
+                        seriesTasks.add(new ConcurrentServerGroupUpdateTask(groupTasks, policy, taskExecutor, subject, blockingTimeout));
+                    }
 
                     updatePolicies.put(serverGroupName, policy);
 
@@ -167,6 +177,24 @@ public class RolloutPlanController {
         return result;
     }
 
+    /**
+     * Gets the number of servers of a group to update at the same time.
+     *
+     * @param policyNode the server group's rollout policy
+     * @param serverCount the number of servers in the group
+     * @return the number of servers, or {@code 0} if they are not updated in waves
+     */
+    static int getWaveSize(final ModelNode policyNode, final int serverCount) {
+        if (policyNode.hasDefined(WAVE_PERCENTAGE)) {
+            // Round up, so a small group is not left without any server to update
+            final int pct = policyNode.get(WAVE_PERCENTAGE).asInt();
+            return Math.max(1, (serverCount * pct + 99) / 100);
+        } else if (policyNode.hasDefined(WAVE_SIZE)) {
+            return policyNode.get(WAVE_SIZE).asInt();
+        }
+        return 0;
+    }
+
     private ServerUpdateTask createServerTask(final ServerIdentity serverIdentity, final ModelNode serverOp,
                                               final ServerUpdatePolicy policy) {
         ServerUpdateTask result;
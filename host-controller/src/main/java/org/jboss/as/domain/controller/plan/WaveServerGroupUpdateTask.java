@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.plan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.security.auth.Subject;
+
+import org.jboss.as.controller.BlockingTimeout;
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+
+/**
+ * Updates the servers of a server group in waves. The servers of a wave are updated concurrently, and the next
+ * wave only starts once every server of the previous one has reported its prepared result and the
+ * {@link ServerUpdatePolicy} still allows further servers to be updated.
+ */
+class WaveServerGroupUpdateTask extends AbstractServerGroupRolloutTask implements Runnable {
+
+    private final int waveSize;
+    private final int maxServersPerHost;
+
+    /**
+     * @param waveSize the maximum number of servers updated in a wave, or {@code 0} for no limit
+     * @param maxServersPerHost the maximum number of servers of a single host updated in a wave, or {@code 0} for no limit
+     */
+    public WaveServerGroupUpdateTask(List<ServerUpdateTask> tasks, ServerUpdatePolicy updatePolicy,
+                                     ServerTaskExecutor executor, Subject subject, BlockingTimeout blockingTimeout,
+                                     int waveSize, int maxServersPerHost) {
+        super(tasks, updatePolicy, executor, subject, blockingTimeout);
+        this.waveSize = waveSize;
+        this.maxServersPerHost = maxServersPerHost;
+    }
+
+    @Override
+    public void execute() {
+        final List<ServerUpdateTask> pending = new LinkedList<>(tasks);
+        int wave = 0;
+        while (!pending.isEmpty()) {
+            final ServerIdentity next = pending.get(0).getServerIdentity();
+            if (!updatePolicy.canUpdateServer(next)) {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Skipping remaining %d server update tasks of server group %s", pending.size(), next.getServerGroupName());
+                return;
+            }
+            final List<ServerUpdateTask> current = nextWave(pending, waveSize, maxServersPerHost);
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Executing wave %d of server group %s: %s", ++wave, next.getServerGroupName(), current);
+            if (executeConcurrently(current)) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the tasks of the next wave from the pending tasks, keeping their order.
+     *
+     * @param pending the tasks not executed yet
+     * @param waveSize the maximum number of tasks in the wave, or {@code 0} for no limit
+     * @param maxServersPerHost the maximum number of tasks for servers of a single host, or {@code 0} for no limit
+     * @return the tasks of the wave. Will not be empty if {@code pending} is not
+     */
+    static List<ServerUpdateTask> nextWave(final List<ServerUpdateTask> pending, final int waveSize, final int maxServersPerHost) {
+        final List<ServerUpdateTask> wave = new ArrayList<>();
+        final Map<String, Integer> hostCounts = new HashMap<>();
+        final Iterator<ServerUpdateTask> iterator = pending.iterator();
+        while (iterator.hasNext() && (waveSize <= 0 || wave.size() < waveSize)) {
+            final ServerUpdateTask task = iterator.next();
+            if (maxServersPerHost > 0) {
+                final String hostName = task.getServerIdentity().getHostName();
+                final Integer count = hostCounts.get(hostName);
+                if (count == null) {
+                    hostCounts.put(hostName, 1);
+                } else if (count < maxServersPerHost) {
+                    hostCounts.put(hostName, count + 1);
+                } else {
+                    continue;
+                }
+            }
+            iterator.remove();
+            wave.add(task);
+        }
+        return wave;
+    }
+}
@@ -174,11 +174,12 @@ public class ConfigurationPersisterFactory {
             }
         }
 
-        public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
+        @Override
+        public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses, boolean flush) throws ConfigurationPersistenceException {
             if (!successfulBoot.get()) {
-                return bootWriter.store(model, affectedAddresses);
+                return bootWriter.store(model, affectedAddresses, flush);
             }
-            return super.store(model, affectedAddresses);
+            return super.store(model, affectedAddresses, flush);
         }
     }
 }
@@ -1144,6 +1144,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().determineServerStatus(serverName);
         }
 
+        @Override
+        public ModelNode getServerLaunchTimes(String serverName) {
+            return getServerInventory().getServerLaunchTimes(serverName);
+        }
+
         public ServerStatus startServer(String serverName, ModelNode domainModel) {
             return getServerInventory().startServer(serverName, domainModel);
         }
@@ -1153,6 +1158,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().startServer(serverName, domainModel, blocking, suspend);
         }
 
+        @Override
+        public Set<String> startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+            return getServerInventory().startServers(serverNames, domainModel, blocking, suspend);
+        }
+
         public void reconnectServer(String serverName, ModelNode domainModel, String authKey, boolean running, boolean stopping) {
             getServerInventory().reconnectServer(serverName, domainModel, authKey, running, stopping);
         }
@@ -1166,6 +1176,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().restartServer(serverName, gracefulTimeout, domainModel, blocking, suspend);
         }
 
+        @Override
+        public Set<String> restartServers(Collection<String> serverNames, int gracefulTimeout, ModelNode domainModel, boolean suspend) {
+            return getServerInventory().restartServers(serverNames, gracefulTimeout, domainModel, suspend);
+        }
+
         public ServerStatus stopServer(String serverName, int gracefulTimeout) {
             return getServerInventory().stopServer(serverName, gracefulTimeout);
         }
@@ -1422,6 +1437,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public ModelNode getServerLaunchTimes(String serverName) {
+                return new ModelNode();
+            }
+
             @Override
             public ServerStatus startServer(String serverName, ModelNode domainModel) {
                 return ServerStatus.STOPPED;
@@ -1432,6 +1452,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public Set<String> startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+                return Collections.emptySet();
+            }
+
             @Override
             public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
                 return ServerStatus.STOPPED;
@@ -1442,6 +1467,11 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public Set<String> restartServers(Collection<String> serverNames, int gracefulTimeout, ModelNode domainModel, boolean suspend) {
+                return Collections.emptySet();
+            }
+
             @Override
             public ServerStatus stopServer(String serverName, int gracefulTimeout) {
                 return ServerStatus.STARTED;
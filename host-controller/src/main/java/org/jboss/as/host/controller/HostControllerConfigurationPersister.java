@@ -140,14 +140,19 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
 
     @Override
     public PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
+        return store(model, affectedAddresses, false);
+    }
+
+    @Override
+    public PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses, boolean flush) throws ConfigurationPersistenceException {
         final PersistenceResource[] delegates = new PersistenceResource[2];
         for (PathAddress addr : affectedAddresses) {
             if (delegates[0] == null && addr.size() > 0 && HOST.equals(addr.getElement(0).getKey()) && addr.getElement(0).getValue().equals(hostControllerInfo.getLocalHostName())) {
                 ModelNode hostModel = new ModelNode();
                 hostModel.set(model.get(HOST, hostControllerInfo.getLocalHostName()));
-                delegates[0] = hostPersister.store(hostModel, affectedAddresses);
+                delegates[0] = hostPersister.store(hostModel, affectedAddresses, flush);
             } else if (delegates[1] == null && (addr.size() == 0 || !HOST.equals(addr.getElement(0).getKey()))) {
-                delegates[1] = getDomainPersister().store(model, affectedAddresses);
+                delegates[1] = getDomainPersister().store(model, affectedAddresses, flush);
             }
 
             if (delegates[0] != null && delegates[1] != null) {
@@ -22,9 +22,12 @@
 
 package org.jboss.as.host.controller;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROCESS_SPAWN_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REGISTRATION_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELOAD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESUME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNNING_SERVER;
@@ -40,6 +43,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.CurrentOperationIdHolder;
 import org.jboss.as.controller.PathAddress;
@@ -129,6 +133,8 @@ class ManagedServer {
     private volatile int operationID = CurrentOperationIdHolder.getCurrentOperationID();
     private volatile ManagedServerBootConfiguration bootConfiguration;
 
+    private final LaunchTimes launchTimes = new LaunchTimes();
+
     private final PathAddress address;
 
     ManagedServer(final String hostControllerName, final String serverName, final String authKey,
@@ -213,6 +219,16 @@ class ManagedServer {
         return requiresReload;
     }
 
+    /**
+     * Get the time in milliseconds spent in each phase of the last launch of this server. Phases which were not
+     * completed are left undefined.
+     *
+     * @return the launch times, keyed by {@code process-spawn-time}, {@code registration-time} and {@code boot-time}
+     */
+    ModelNode getLaunchTimes() {
+        return launchTimes.toModelNode();
+    }
+
     /**
      * Require a reload on the the next reconnect.
      */
@@ -252,6 +268,7 @@ class ManagedServer {
         operationID = CurrentOperationIdHolder.getCurrentOperationID();
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
+        launchTimes.launched(System.nanoTime());
         ROOT_LOGGER.startingServer(serverName);
         transition();
     }
@@ -310,6 +327,7 @@ class ManagedServer {
         if(this.requiredState != InternalState.SERVER_STARTED) {
             this.bootConfiguration = factory;
             this.requiredState = InternalState.SERVER_STARTED;
+            launchTimes.reset();
             ROOT_LOGGER.reconnectingServer(serverName);
             internalSetState(new ReconnectTask(), InternalState.STOPPED, InternalState.SEND_STDIN);
         }
@@ -573,6 +591,7 @@ class ManagedServer {
                     }
                 }
                 this.internalState = next;
+                launchTimes.recordLaunchPhase(current, next, System.nanoTime());
                 return true;
             } catch (final Exception e) {
                 ROOT_LOGGER.logf(DEBUG_LEVEL, e, "transition (%s > %s) failed for server \"%s\"", current, next, serverName);
@@ -736,6 +755,80 @@ class ManagedServer {
         }
     }
 
+    /**
+     * The time at which the last launch of a server reached each of its phases.
+     */
+    static final class LaunchTimes {
+
+        // System.nanoTime() at each phase of the last launch, 0 if not reached
+        private volatile long launchStart;
+        private volatile long processStartedTime;
+        private volatile long serverRegisteredTime;
+        private volatile long serverStartedTime;
+
+        /**
+         * Start timing a new launch.
+         *
+         * @param now the current {@code System.nanoTime()}
+         */
+        void launched(final long now) {
+            processStartedTime = serverRegisteredTime = serverStartedTime = 0;
+            launchStart = now;
+        }
+
+        /**
+         * Forget the last launch, as the server is reconnected rather than launched.
+         */
+        void reset() {
+            launchStart = processStartedTime = serverRegisteredTime = serverStartedTime = 0;
+        }
+
+        /**
+         * Record the time of a state transition which completes a launch phase.
+         *
+         * @param current the state the server left
+         * @param next the state the server entered
+         * @param now the current {@code System.nanoTime()}
+         */
+        void recordLaunchPhase(final InternalState current, final InternalState next, final long now) {
+            if (launchStart == 0) {
+                // Reconnected, the launch was not observed
+                return;
+            }
+            // Only the first pass through each phase counts, not a later reload
+            if (current == InternalState.PROCESS_STARTING && next == InternalState.PROCESS_STARTED && processStartedTime == 0) {
+                processStartedTime = now;
+            } else if (current == InternalState.SEND_STDIN && next == InternalState.SERVER_STARTING && serverRegisteredTime == 0) {
+                serverRegisteredTime = now;
+            } else if (current == InternalState.SERVER_STARTING && next == InternalState.SERVER_STARTED
+                    && serverRegisteredTime != 0 && serverStartedTime == 0) {
+                serverStartedTime = now;
+            }
+        }
+
+        /**
+         * @return the milliseconds spent in each completed phase, keyed by {@code process-spawn-time},
+         *         {@code registration-time} and {@code boot-time}
+         */
+        ModelNode toModelNode() {
+            final long launchStart = this.launchStart;
+            final long processStarted = this.processStartedTime;
+            final long serverRegistered = this.serverRegisteredTime;
+            final long serverStarted = this.serverStartedTime;
+            final ModelNode times = new ModelNode();
+            setElapsedTime(times, PROCESS_SPAWN_TIME, launchStart, processStarted);
+            setElapsedTime(times, REGISTRATION_TIME, processStarted, serverRegistered);
+            setElapsedTime(times, BOOT_TIME, serverRegistered, serverStarted);
+            return times;
+        }
+
+        private static void setElapsedTime(final ModelNode times, final String name, final long from, final long to) {
+            if (from != 0 && to != 0) {
+                times.get(name).set(TimeUnit.NANOSECONDS.toMillis(to - from));
+            }
+        }
+    }
+
     @FunctionalInterface
     interface TransitionTask {
 
@@ -306,8 +306,7 @@ class RemoteDomainConnection extends FutureManagementChannel {
         if(! result.hasDefined(ModelDescriptionConstants.RESULT)) {
             return false;
         }
-        final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
-        return callback.applyDomainModel(bootOperations);
+        return callback.applyDomainModel(result.get(ModelDescriptionConstants.RESULT));
     }
 
     void registered() {
@@ -332,10 +331,11 @@ class RemoteDomainConnection extends FutureManagementChannel {
         /**
          * Apply the remote domain model.
          *
-         * @param result the read-domain-model operation result
+         * @param result the read-domain-model operation result, either the list of domain resources or a
+         *               {@link org.jboss.as.domain.controller.operations.DomainModelDelta delta}
          * @return {@code true} if the model was applied successfully, {@code false} otherwise
          */
-        boolean applyDomainModel(List<ModelNode> result);
+        boolean applyDomainModel(ModelNode result);
 
         /**
          * Event that the registration was completed.
@@ -78,6 +78,7 @@ import org.jboss.as.controller.remote.TransactionalProtocolOperationHandler;
 import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.operations.DomainModelDelta;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
 import org.jboss.as.domain.controller.operations.SyncDomainModelOperationHandler;
 import org.jboss.as.domain.controller.operations.SyncServerGroupOperationHandler;
@@ -186,6 +187,10 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private final InjectedValue<ScheduledExecutorService> scheduledExecutorInjector = new InjectedValue<>();
     private final ExecutorService executor;
     private final AtomicBoolean domainModelComplete;
+    /** The domain resources received from the master when the domain model was last applied */
+    private volatile List<ModelNode> lastDomainResources;
+    /** The {@link DomainModelDelta#digest(List) digests} of {@link #lastDomainResources} */
+    private volatile ModelNode lastDomainModelDigests;
 
     private ManagementChannelHandler handler;
     private volatile ResponseAttachmentInputStreamSupport responseAttachmentSupport;
@@ -505,7 +510,13 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                  */
                 @Override
                 public ModelNode createLocalHostInfo() {
-                    return HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode info = HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode digests = lastDomainModelDigests;
+                    if (digests != null) {
+                        // Let the master only send what changed since the model was last applied
+                        info.get(DomainModelDelta.DOMAIN_MODEL_DIGESTS).set(digests);
+                    }
+                    return info;
                 }
 
                 @Override
@@ -514,10 +525,22 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                 }
 
                 @Override
-                public boolean applyDomainModel(final List<ModelNode> bootOperations) {
+                public boolean applyDomainModel(final ModelNode result) {
+                    final List<ModelNode> bootOperations = resolveDomainModel(result);
+                    if (bootOperations == null) {
+                        return false;
+                    }
+                    final ModelNode digests = DomainModelDelta.digest(bootOperations);
                     // Apply the model..
                     final HostInfo info = HostInfo.fromModelNode(createLocalHostInfo());
-                    return applyRemoteDomainModel(bootOperations, info);
+                    if (applyRemoteDomainModel(bootOperations, info)) {
+                        lastDomainResources = bootOperations;
+                        lastDomainModelDigests = digests;
+                        return true;
+                    }
+                    lastDomainResources = null;
+                    lastDomainModelDigests = null;
+                    return false;
                 }
 
                 @Override
@@ -557,6 +580,30 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
         return subsystems;
     }
 
+    /**
+     * Gets the complete list of domain resources from the result of the remote read-domain-model op.
+     *
+     * @param result the result, either the list of resources or a delta to the resources the model was last applied with
+     * @return the resources, or {@code null} if the delta does not apply to the resources the model was last applied with
+     */
+    private List<ModelNode> resolveDomainModel(final ModelNode result) {
+        if (!DomainModelDelta.isDelta(result)) {
+            return result.asList();
+        }
+        final List<ModelNode> lastResources = lastDomainResources;
+        final List<ModelNode> resources = lastResources == null ? null : DomainModelDelta.applyDelta(result, lastResources);
+        if (resources == null) {
+            // Forget the last model, so the master sends the complete model on the next attempt
+            lastDomainResources = null;
+            lastDomainModelDigests = null;
+            HostControllerLogger.ROOT_LOGGER.domainModelDeltaMismatch();
+            return null;
+        }
+        HostControllerLogger.ROOT_LOGGER.debugf("Master provided %d changed of %d domain resources",
+                result.get(DomainModelDelta.CHANGED_DOMAIN_RESOURCES).asList().size(), resources.size());
+        return resources;
+    }
+
     /**
      * Apply the remote domain model to the local host controller.
      *
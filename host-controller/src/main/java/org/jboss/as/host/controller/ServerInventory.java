@@ -85,6 +85,15 @@ public interface ServerInventory {
      */
     ServerStatus determineServerStatus(final String serverName);
 
+    /**
+     * Get the time in milliseconds the last launch of a server spent spawning the process, registering with the
+     * host controller and booting. Phases which did not complete are left undefined.
+     *
+     * @param serverName the name of the server
+     * @return the launch times. Will not return {@code null}
+     */
+    ModelNode getServerLaunchTimes(String serverName);
+
     /**
      * Start the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
@@ -106,6 +115,20 @@ public interface ServerInventory {
      */
     ServerStatus startServer(String serverName, ModelNode domainModel, boolean blocking, boolean suspend);
 
+    /**
+     * Start a group of servers. The servers are launched in the given order, with the number of servers in the process
+     * of being launched at the same time bounded by the host's start concurrency. A server which fails to start is
+     * logged and does not prevent the remaining servers from being started.
+     *
+     * @param serverNames the names of the servers to start
+     * @param domainModel the configuration model for the domain
+     * @param blocking whether a server needs to be started, rather than only having received all startup instructions,
+     *                 before it no longer counts against the start concurrency
+     * @param suspend if the servers should start in suspended mode
+     * @return the names of the servers which failed to start
+     */
+    Set<String> startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend);
+
     /**
      * Restart the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
@@ -130,6 +153,20 @@ public interface ServerInventory {
      */
     ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel, boolean blocking, boolean suspend);
 
+    /**
+     * Restart a group of servers. Each server is stopped and started again in turn, as by
+     * {@link #restartServer(String, int, ModelNode)}, but the next server is restarted while the previous ones are
+     * still starting, as by {@link #startServers(Collection, ModelNode, boolean, boolean)}. Note that returning from
+     * this method does not mean the servers are completely started.
+     *
+     * @param serverNames the names of the servers to restart
+     * @param gracefulTimeout time in ms the servers should allow for graceful shutdown (if supported) before terminating all services
+     * @param domainModel the configuration model for the domain
+     * @param suspend if the servers should restart in suspended mode
+     * @return the names of the servers which failed to restart
+     */
+    Set<String> restartServers(Collection<String> serverNames, int gracefulTimeout, ModelNode domainModel, boolean suspend);
+
     /**
      * Stop the server with the given name. Note that returning from this method does not mean the server
      * is completely stopped; it may only be in the process of stopping.
@@ -31,10 +31,13 @@ import java.net.URI;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -47,6 +50,8 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.security.auth.callback.Callback;
 import javax.security.auth.callback.CallbackHandler;
@@ -85,6 +90,7 @@ import org.wildfly.security.auth.callback.CredentialCallback;
 import org.wildfly.security.auth.callback.EvidenceVerifyCallback;
 import org.wildfly.security.credential.PasswordCredential;
 import org.wildfly.security.evidence.PasswordGuessEvidence;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.security.password.Password;
 import org.wildfly.security.password.PasswordFactory;
 import org.wildfly.security.password.interfaces.DigestPassword;
@@ -99,6 +105,10 @@ import org.wildfly.security.password.spec.EncryptablePasswordSpec;
  */
 public class ServerInventoryImpl implements ServerInventory {
 
+    /** The maximum number of servers launched at the same time by {@link #startServers(Collection, ModelNode, boolean, boolean)}. */
+    static final int START_CONCURRENCY = Math.max(1, Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(
+            "org.jboss.as.host.start.servers.concurrency", Integer.toString(Runtime.getRuntime().availableProcessors()))));
+
     /** The managed servers. */
     private final ConcurrentMap<String, ManagedServer> servers = new ConcurrentHashMap<String, ManagedServer>();
 
@@ -178,6 +188,15 @@ public class ServerInventoryImpl implements ServerInventory {
         return server.getState();
     }
 
+    @Override
+    public ModelNode getServerLaunchTimes(final String serverName) {
+        final ManagedServer server = servers.get(serverName);
+        if(server == null) {
+            return new ModelNode();
+        }
+        return server.getLaunchTimes();
+    }
+
     @Override
     public ServerStatus startServer(final String serverName, final ModelNode domainModel) {
         return startServer(serverName, domainModel, false, false);
@@ -185,6 +204,63 @@ public class ServerInventoryImpl implements ServerInventory {
 
     @Override
     public ServerStatus startServer(final String serverName, final ModelNode domainModel, final boolean blocking, boolean suspend) {
+        final ManagedServer server = launchServer(serverName, domainModel, suspend);
+        server.awaitState(getStartedState(blocking));
+        return server.getState();
+    }
+
+    @Override
+    public Set<String> startServers(final Collection<String> serverNames, final ModelNode domainModel, final boolean blocking, final boolean suspend) {
+        final ManagedServer.InternalState started = getStartedState(blocking);
+        // The process controller starts the processes asynchronously, so it is enough to bound the number of servers
+        // we have not yet seen reaching the awaited state. This also keeps the current operation id for all of them.
+        return launchServers(serverNames, START_CONCURRENCY, serverName -> launchServer(serverName, domainModel, suspend),
+                server -> server.awaitState(started));
+    }
+
+    /**
+     * Launch the servers in the given order from the calling thread, awaiting the oldest launched server whenever
+     * {@code concurrency} of them are launched but not yet awaited. A server which fails to launch is logged and skipped.
+     *
+     * @param serverNames the names of the servers to launch
+     * @param concurrency the maximum number of servers launched but not yet awaited
+     * @param launcher launches a server
+     * @param awaiter awaits a launched server
+     * @return the names of the servers which failed to launch
+     */
+    static <T> Set<String> launchServers(final Collection<String> serverNames, final int concurrency,
+                                         final Function<String, T> launcher, final Consumer<T> awaiter) {
+        final Deque<T> launching = new ArrayDeque<T>(concurrency);
+        final Set<String> failed = new LinkedHashSet<String>();
+        try {
+            for (final String serverName : serverNames) {
+                while (launching.size() >= concurrency) {
+                    awaiter.accept(launching.removeFirst());
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                try {
+                    launching.addLast(launcher.apply(serverName));
+                } catch (Exception e) {
+                    ROOT_LOGGER.failedToStartServer(e, serverName);
+                    failed.add(serverName);
+                }
+            }
+        } finally {
+            for (final T server : launching) {
+                awaiter.accept(server);
+            }
+        }
+        return failed;
+    }
+
+    private static ManagedServer.InternalState getStartedState(final boolean blocking) {
+        // Either block until the server started message, or until the server opens the mgmt connection
+        return blocking ? ManagedServer.InternalState.SERVER_STARTED : ManagedServer.InternalState.SERVER_STARTING;
+    }
+
+    private ManagedServer launchServer(final String serverName, final ModelNode domainModel, final boolean suspend) {
         if(shutdown || connectionFinished) {
             throw HostControllerLogger.ROOT_LOGGER.hostAlreadyShutdown();
         }
@@ -216,14 +292,7 @@ public class ServerInventoryImpl implements ServerInventory {
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
-        if(blocking) {
-            // Block until the server started message
-            server.awaitState(ManagedServer.InternalState.SERVER_STARTED);
-        } else {
-            // Wait until the server opens the mgmt connection
-            server.awaitState(ManagedServer.InternalState.SERVER_STARTING);
-        }
-        return server.getState();
+        return server;
     }
 
     @Override
@@ -234,6 +303,24 @@ public class ServerInventoryImpl implements ServerInventory {
     @Override
     public ServerStatus restartServer(final String serverName, final int gracefulTimeout, final ModelNode domainModel, final boolean blocking, final boolean suspend) {
         stopServer(serverName, gracefulTimeout);
+        awaitServerRemoved(serverName);
+        startServer(serverName, domainModel, blocking, suspend);
+        return determineServerStatus(serverName);
+    }
+
+    @Override
+    public Set<String> restartServers(final Collection<String> serverNames, final int gracefulTimeout, final ModelNode domainModel, final boolean suspend) {
+        final ManagedServer.InternalState started = getStartedState(false);
+        // Each server is stopped only once the previous one was launched, so that no more than one of them is down
+        // at a time besides the ones still starting
+        return launchServers(serverNames, START_CONCURRENCY, serverName -> {
+            stopServer(serverName, gracefulTimeout);
+            awaitServerRemoved(serverName);
+            return launchServer(serverName, domainModel, suspend);
+        }, server -> server.awaitState(started));
+    }
+
+    private void awaitServerRemoved(final String serverName) {
         synchronized (shutdownCondition) {
             for(;;) {
                 if(shutdown || connectionFinished) {
@@ -250,8 +337,6 @@ public class ServerInventoryImpl implements ServerInventory {
                 }
             }
         }
-        startServer(serverName, domainModel, blocking, suspend);
-        return determineServerStatus(serverName);
     }
 
     @Override
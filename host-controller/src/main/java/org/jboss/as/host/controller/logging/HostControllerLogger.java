@@ -1350,4 +1350,18 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 197, value = "If attribute %s is defined one of ssl-context or security-realm must also be defined")
     OperationFailedException attributeRequiresSSLContext(String attribute);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 198, value = "The changes to the domain model provided by the master do not match the domain model last received from it. The complete domain model will be requested on the next attempt to register with the master")
+    void domainModelDeltaMismatch();
+
+    /**
+     * Creates an exception indicating the servers failed to start, whose causes were logged.
+     *
+     * @param serverNames the names of the servers
+     *
+     * @return an {@link OperationFailedException} for the error.
+     */
+    @Message(id = 199, value = "Failed to start servers %s, see the host controller log for the causes")
+    OperationFailedException failedToStartServers(Set<String> serverNames);
+
 }
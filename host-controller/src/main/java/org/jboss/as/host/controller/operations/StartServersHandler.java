@@ -24,6 +24,8 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.as.controller.OperationContext;
@@ -109,33 +111,42 @@ public class StartServersHandler implements OperationStepHandler {
     }
 
     private void cleanStartServers(final ModelNode servers, final ModelNode domainModel, OperationContext context) throws OperationFailedException {
+        final List<String> serverNames = new ArrayList<String>();
         for(final Property serverProp : servers.asPropertyList()) {
-            String serverName = serverProp.getName();
             if (ServerConfigResourceDefinition.AUTO_START.resolveModelAttribute(context, serverProp.getValue()).asBoolean(true)) {
-                try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                } catch (Exception e) {
-                    ROOT_LOGGER.failedToStartServer(e, serverName);
-                }
+                serverNames.add(serverProp.getName());
             }
         }
+        startServers(serverNames, domainModel);
     }
 
     private void restartedHcStartOrReconnectServers(final ModelNode servers, final ModelNode domainModel, final OperationContext context){
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
+        final List<String> serverNames = new ArrayList<String>();
         for(final String serverName : servers.keys()) {
             ProcessInfo info = processInfos.get(serverInventory.getServerProcessName(serverName));
             boolean auto = servers.get(serverName, AUTO_START).asBoolean(true);
             if (info == null && auto) {
+                serverNames.add(serverName);
+            } else if (info != null){
+                // Reconnect the server using the current authKey
+                serverInventory.reconnectServer(serverName, domainModel, info.getAuthKey(), info.isRunning(), info.isStopping());
+            }
+        }
+        startServers(serverNames, domainModel);
+    }
+
+    private void startServers(final List<String> serverNames, final ModelNode domainModel) {
+        if (START_BLOCKING) {
+            for (final String serverName : serverNames) {
                 try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
+                    serverInventory.startServer(serverName, domainModel, true, false);
                 } catch (Exception e) {
                     ROOT_LOGGER.failedToStartServer(e, serverName);
                 }
-            } else if (info != null){
-                // Reconnect the server using the current authKey
-                serverInventory.reconnectServer(serverName, domainModel, info.getAuthKey(), info.isRunning(), info.isStopping());
             }
+        } else {
+            serverInventory.startServers(serverNames, domainModel, false, false);
         }
     }
 }
@@ -39,6 +39,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.client.helpers.domain.ServerStatus;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
@@ -55,6 +56,7 @@ import org.jboss.as.host.controller.ServerInventory;
 import org.jboss.as.host.controller.descriptions.HostResolver;
 import org.jboss.as.host.controller.model.jvm.JvmResourceDefinition;
 import org.jboss.as.host.controller.operations.ServerAddHandler;
+import org.jboss.as.host.controller.operations.ServerLaunchTimesHandler;
 import org.jboss.as.host.controller.operations.ServerProcessHandlers;
 import org.jboss.as.host.controller.operations.ServerReloadHandler;
 import org.jboss.as.host.controller.operations.ServerRemoveHandler;
@@ -122,6 +124,12 @@ public class ServerConfigResourceDefinition extends SimpleResourceDefinition {
             .setValidator(new EnumValidator<ServerStatus>(ServerStatus.class, false, false))
             .build();
 
+    public static final SimpleAttributeDefinition PROCESS_SPAWN_TIME = createLaunchTime(ModelDescriptionConstants.PROCESS_SPAWN_TIME);
+
+    public static final SimpleAttributeDefinition REGISTRATION_TIME = createLaunchTime(ModelDescriptionConstants.REGISTRATION_TIME);
+
+    public static final SimpleAttributeDefinition BOOT_TIME = createLaunchTime(ModelDescriptionConstants.BOOT_TIME);
+
     /**
      * Bogus attribute that we accidentally registered in AS 7.1.2/EAP 6 even though it didn't appear in the
      * resource description. So for compatibility we register it here as well, and include it in the description
@@ -162,6 +170,14 @@ public class ServerConfigResourceDefinition extends SimpleResourceDefinition {
         this.pathManager = pathManager;
     }
 
+    private static SimpleAttributeDefinition createLaunchTime(final String name) {
+        return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG, true)
+                .setStorageRuntime()
+                .setRuntimeServiceNotRequired()
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .build();
+    }
+
     @Override
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
 
@@ -180,6 +196,10 @@ public class ServerConfigResourceDefinition extends SimpleResourceDefinition {
 
         if (serverInventory != null) {
             resourceRegistration.registerMetric(STATUS, new ServerStatusHandler(serverInventory));
+            final ServerLaunchTimesHandler launchTimesHandler = new ServerLaunchTimesHandler(serverInventory);
+            resourceRegistration.registerMetric(PROCESS_SPAWN_TIME, launchTimesHandler);
+            resourceRegistration.registerMetric(REGISTRATION_TIME, launchTimesHandler);
+            resourceRegistration.registerMetric(BOOT_TIME, launchTimesHandler);
         }
     }
 
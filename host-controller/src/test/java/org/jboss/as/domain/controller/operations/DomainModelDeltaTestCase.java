@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil.DOMAIN_RESOURCE_ADDRESS;
+import static org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil.DOMAIN_RESOURCE_MODEL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link DomainModelDelta}.
+ */
+public class DomainModelDeltaTestCase {
+
+    @Test
+    public void testUnchangedModel() {
+        final List<ModelNode> resources = createResources("value");
+        final ModelNode delta = DomainModelDelta.createDelta(createResources("value"), DomainModelDelta.digest(resources));
+        Assert.assertTrue(DomainModelDelta.isDelta(delta));
+        Assert.assertFalse(DomainModelDelta.isDelta(new ModelNode().set(resources)));
+        Assert.assertEquals(0, delta.get(DomainModelDelta.CHANGED_DOMAIN_RESOURCES).asList().size());
+        Assert.assertEquals(resources, DomainModelDelta.applyDelta(delta, resources));
+    }
+
+    @Test
+    public void testChangedModel() {
+        final List<ModelNode> known = createResources("value");
+        final List<ModelNode> current = createResources("changed");
+        // Remove the second profile, and add a server group
+        Assert.assertEquals(PathAddress.pathAddress(PROFILE, "b"), PathAddress.pathAddress(current.remove(3).get(DOMAIN_RESOURCE_ADDRESS)));
+        current.add(createResource(new ModelNode(), SERVER_GROUP, "other"));
+
+        final ModelNode delta = DomainModelDelta.createDelta(current, DomainModelDelta.digest(known));
+        // Only the profile with the changed subsystem and the new server group are sent
+        final List<ModelNode> changed = delta.get(DomainModelDelta.CHANGED_DOMAIN_RESOURCES).asList();
+        Assert.assertEquals(3, changed.size());
+        Assert.assertEquals(current, DomainModelDelta.applyDelta(delta, known));
+    }
+
+    @Test
+    public void testMismatch() {
+        final List<ModelNode> known = createResources("value");
+        final ModelNode delta = DomainModelDelta.createDelta(createResources("value"), DomainModelDelta.digest(known));
+        // The slave has different resources than the ones it sent the digests of
+        Assert.assertNull(DomainModelDelta.applyDelta(delta, createResources("other")));
+        Assert.assertNull(DomainModelDelta.applyDelta(delta, new ArrayList<>()));
+    }
+
+    /**
+     * Creates the root resource, profile "a" with a subsystem, profile "b" and server group "main".
+     */
+    private static List<ModelNode> createResources(String subsystemValue) {
+        final List<ModelNode> resources = new ArrayList<>();
+        final ModelNode root = new ModelNode();
+        root.get(DOMAIN_RESOURCE_ADDRESS).setEmptyList();
+        root.get(DOMAIN_RESOURCE_MODEL).get("name").set("domain");
+        resources.add(root);
+        resources.add(createResource(new ModelNode(), PROFILE, "a"));
+        resources.add(createResource(createModel("attr", subsystemValue), PROFILE, "a", SUBSYSTEM, "test"));
+        resources.add(createResource(new ModelNode(), PROFILE, "b"));
+        resources.add(createResource(createModel(PROFILE, "a"), SERVER_GROUP, "main"));
+        return resources;
+    }
+
+    private static ModelNode createModel(String name, String value) {
+        final ModelNode model = new ModelNode();
+        model.get(name).set(value);
+        return model;
+    }
+
+    private static ModelNode createResource(ModelNode model, String... address) {
+        final ModelNode resource = new ModelNode();
+        final ModelNode addressNode = resource.get(DOMAIN_RESOURCE_ADDRESS).setEmptyList();
+        for (int i = 0; i < address.length; i += 2) {
+            addressNode.add(address[i], address[i + 1]);
+        }
+        resource.get(DOMAIN_RESOURCE_MODEL).set(model);
+        return resource;
+    }
+}
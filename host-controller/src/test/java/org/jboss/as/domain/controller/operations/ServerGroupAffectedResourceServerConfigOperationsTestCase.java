@@ -559,6 +559,11 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             return ServerStatus.STARTED;
         }
 
+        @Override
+        public ModelNode getServerLaunchTimes(String serverName) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
         @Override
         public ServerStatus startServer(String serverName, ModelNode domainModel) {
             throw new UnsupportedOperationException("Not supported yet.");
@@ -569,6 +574,11 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             throw new UnsupportedOperationException("Not supported yet.");
         }
 
+        @Override
+        public Set<String> startServers(Collection<String> serverNames, ModelNode domainModel, boolean blocking, boolean suspend) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
         @Override
         public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
             throw new UnsupportedOperationException("Not supported yet.");
@@ -579,6 +589,11 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             throw new UnsupportedOperationException("Not supported yet.");
         }
 
+        @Override
+        public Set<String> restartServers(Collection<String> serverNames, int gracefulTimeout, ModelNode domainModel, boolean suspend) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
         @Override
         public ServerStatus stopServer(String serverName, int gracefulTimeout) {
             throw new UnsupportedOperationException("Not supported yet.");
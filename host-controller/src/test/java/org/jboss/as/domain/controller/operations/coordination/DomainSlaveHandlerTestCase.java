@@ -0,0 +1,213 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations.coordination;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.Subject;
+
+import org.jboss.as.controller.BlockingTimeout;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProxyController;
+import org.jboss.as.controller.TransformingProxyController;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.remote.TransactionalProtocolClient;
+import org.jboss.as.controller.transform.OperationResultTransformer;
+import org.jboss.as.controller.transform.OperationTransformer;
+import org.jboss.as.controller.transform.Transformers;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of sending a domain operation to several slave hosts at once.
+ */
+public class DomainSlaveHandlerTestCase {
+
+    private static final int HOST_COUNT = 4;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(HOST_COUNT);
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testSubjectSentToEveryHost() throws Exception {
+        // Every host waits for the others, so each one is dispatched from a different thread
+        final CountDownLatch dispatched = new CountDownLatch(HOST_COUNT);
+        final Map<String, Subject> subjects = new ConcurrentHashMap<>();
+        final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        final Map<String, ProxyController> hostProxies = new HashMap<>();
+        for (int i = 0; i < HOST_COUNT; i++) {
+            final String host = "host" + i;
+            hostProxies.put(host, new MockHostProxyController(host, new MockProtocolClient() {
+                @Override
+                void executed() throws IOException {
+                    threads.add(Thread.currentThread());
+                    subjects.put(host, Subject.getSubject(AccessController.getContext()));
+                    dispatched.countDown();
+                    try {
+                        if (!dispatched.await(10, TimeUnit.SECONDS)) {
+                            throw new IOException("Hosts were not dispatched concurrently");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                }
+            }));
+        }
+
+        final MultiphaseOverallContext multiphaseContext = new MultiphaseOverallContext(null);
+        final DomainSlaveHandler handler = new DomainSlaveHandler(hostProxies, multiphaseContext, executorService);
+        final Subject subject = new Subject();
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> executed = Subject.doAs(subject,
+                new PrivilegedAction<Map<String, HostControllerUpdateTask.ExecutedHostRequest>>() {
+                    @Override
+                    public Map<String, HostControllerUpdateTask.ExecutedHostRequest> run() {
+                        return handler.executeOnHosts(new ModelNode(), null, null, new HostControllerUpdateTask.ProxyOperationListener());
+                    }
+                });
+
+        Assert.assertEquals(hostProxies.keySet(), executed.keySet());
+        Assert.assertEquals(HOST_COUNT, threads.size());
+        Assert.assertEquals(hostProxies.keySet(), subjects.keySet());
+        for (Map.Entry<String, Subject> entry : subjects.entrySet()) {
+            Assert.assertSame(entry.getKey(), subject, entry.getValue());
+        }
+    }
+
+    @Test
+    public void testFailedHostDoesNotStopOthers() throws Exception {
+        final Map<String, ProxyController> hostProxies = new HashMap<>();
+        for (int i = 0; i < HOST_COUNT; i++) {
+            final String host = "host" + i;
+            hostProxies.put(host, new MockHostProxyController(host, new MockProtocolClient() {
+                @Override
+                void executed() {
+                    if ("host0".equals(host)) {
+                        throw new IllegalStateException(host);
+                    }
+                }
+            }));
+        }
+
+        final HostControllerUpdateTask.ProxyOperationListener listener = new HostControllerUpdateTask.ProxyOperationListener();
+        final DomainSlaveHandler handler = new DomainSlaveHandler(hostProxies, new MultiphaseOverallContext(null), executorService);
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> executed = handler.executeOnHosts(new ModelNode(), null, null, listener);
+
+        // Every host is still sent the operation, and the failed one reports a failed prepared result
+        Assert.assertEquals(hostProxies.keySet(), executed.keySet());
+        final TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation> prepared = listener.retrievePreparedOperation(10, TimeUnit.SECONDS);
+        Assert.assertNotNull(prepared);
+        Assert.assertEquals("host0", prepared.getOperation().getName());
+        Assert.assertTrue(prepared.isFailed());
+    }
+
+    private abstract static class MockProtocolClient implements TransactionalProtocolClient {
+
+        abstract void executed() throws IOException;
+
+        @Override
+        public AsyncFuture<OperationResponse> execute(TransactionalOperationListener<Operation> listener, ModelNode operation,
+                                                      OperationMessageHandler messageHandler, OperationAttachments attachments) throws IOException {
+            executed();
+            return null;
+        }
+
+        @Override
+        public <T extends Operation> AsyncFuture<OperationResponse> execute(TransactionalOperationListener<T> listener, T operation) throws IOException {
+            executed();
+            return null;
+        }
+    }
+
+    private static class MockHostProxyController implements TransformingProxyController {
+
+        private final PathAddress address;
+        private final TransactionalProtocolClient client;
+
+        MockHostProxyController(String host, TransactionalProtocolClient client) {
+            this.address = PathAddress.pathAddress(PathElement.pathElement(HOST, host));
+            this.client = client;
+        }
+
+        @Override
+        public TransactionalProtocolClient getProtocolClient() {
+            return client;
+        }
+
+        @Override
+        public Transformers getTransformers() {
+            return null;
+        }
+
+        @Override
+        public OperationTransformer.TransformedOperation transformOperation(OperationContext context, ModelNode operation) {
+            return new OperationTransformer.TransformedOperation(operation, OperationResultTransformer.ORIGINAL_RESULT);
+        }
+
+        @Override
+        public OperationTransformer.TransformedOperation transformOperation(Transformers.TransformationInputs parameters, ModelNode operation) {
+            return new OperationTransformer.TransformedOperation(operation, OperationResultTransformer.ORIGINAL_RESULT);
+        }
+
+        @Override
+        public PathAddress getProxyNodeAddress() {
+            return address;
+        }
+
+        @Override
+        public void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control,
+                            OperationAttachments attachments, BlockingTimeout blockingTimeout) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.plan;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_SIZE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests how the servers of a group are split into waves.
+ */
+public class WaveServerGroupUpdateTaskTestCase {
+
+    @Test
+    public void testWaveSize() {
+        final List<ServerUpdateTask> pending = createTasks("a", "b", "c", "d", "e");
+        Assert.assertEquals(servers("a-1", "a-2"), serverNames(WaveServerGroupUpdateTask.nextWave(pending, 2, 0)));
+        Assert.assertEquals(servers("b-1", "b-2"), serverNames(WaveServerGroupUpdateTask.nextWave(pending, 2, 0)));
+        Assert.assertEquals(6, pending.size());
+        Assert.assertEquals(6, WaveServerGroupUpdateTask.nextWave(pending, 0, 0).size());
+        Assert.assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    public void testMaxServersPerHost() {
+        final List<ServerUpdateTask> pending = createTasks("a", "b", "c");
+        Assert.assertEquals(servers("a-1", "b-1", "c-1"), serverNames(WaveServerGroupUpdateTask.nextWave(pending, 0, 1)));
+        Assert.assertEquals(servers("a-2", "b-2"), serverNames(WaveServerGroupUpdateTask.nextWave(pending, 2, 1)));
+        Assert.assertEquals(servers("c-2"), serverNames(WaveServerGroupUpdateTask.nextWave(pending, 2, 1)));
+        Assert.assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    public void testWavePercentage() {
+        final ModelNode policy = new ModelNode();
+        Assert.assertEquals(0, RolloutPlanController.getWaveSize(policy, 10));
+        policy.get(WAVE_SIZE).set(3);
+        Assert.assertEquals(3, RolloutPlanController.getWaveSize(policy, 10));
+        policy.get(WAVE_PERCENTAGE).set(25);
+        Assert.assertEquals(3, RolloutPlanController.getWaveSize(policy, 10));
+        Assert.assertEquals(1, RolloutPlanController.getWaveSize(policy, 2));
+        policy.get(WAVE_PERCENTAGE).set(0);
+        Assert.assertEquals(1, RolloutPlanController.getWaveSize(policy, 10));
+    }
+
+    /**
+     * Creates the tasks for two servers on each of the given hosts, in host order.
+     */
+    private static List<ServerUpdateTask> createTasks(String... hosts) {
+        final Set<ServerIdentity> servers = new LinkedHashSet<>();
+        for (String host : hosts) {
+            for (int i = 1; i <= 2; i++) {
+                servers.add(new ServerIdentity(host, "group", host + "-" + i));
+            }
+        }
+        final ConcurrentGroupServerUpdatePolicy parent = new ConcurrentGroupServerUpdatePolicy(null, Collections.singleton("group"));
+        final ServerUpdatePolicy policy = new ServerUpdatePolicy(parent, "group", servers);
+        final List<ServerUpdateTask> tasks = new ArrayList<>();
+        for (ServerIdentity server : servers) {
+            tasks.add(new RunningServerUpdateTask(server, new ModelNode(), policy));
+        }
+        return tasks;
+    }
+
+    private static List<String> serverNames(List<ServerUpdateTask> tasks) {
+        final List<String> result = new ArrayList<>();
+        for (ServerUpdateTask task : tasks) {
+            result.add(task.getServerIdentity().getServerName());
+        }
+        return result;
+    }
+
+    private static List<String> servers(String... names) {
+        final List<String> result = new ArrayList<>();
+        Collections.addAll(result, names);
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROCESS_SPAWN_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REGISTRATION_TIME;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.host.controller.ManagedServer.InternalState;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the launch phase times of a {@link ManagedServer}.
+ */
+public class ManagedServerTestCase {
+
+    private static final long LAUNCH = TimeUnit.SECONDS.toNanos(100);
+
+    @Test
+    public void testLaunchPhaseTimes() {
+        final ManagedServer.LaunchTimes times = new ManagedServer.LaunchTimes();
+        times.launched(LAUNCH);
+        times.recordLaunchPhase(InternalState.STOPPED, InternalState.PROCESS_ADDING, at(1));
+        times.recordLaunchPhase(InternalState.PROCESS_STARTING, InternalState.PROCESS_STARTED, at(10));
+        times.recordLaunchPhase(InternalState.SEND_STDIN, InternalState.SERVER_STARTING, at(30));
+
+        ModelNode result = times.toModelNode();
+        Assert.assertEquals(10, result.get(PROCESS_SPAWN_TIME).asLong());
+        Assert.assertEquals(20, result.get(REGISTRATION_TIME).asLong());
+        Assert.assertFalse(result.hasDefined(BOOT_TIME));
+
+        times.recordLaunchPhase(InternalState.SERVER_STARTING, InternalState.SERVER_STARTED, at(100));
+        // A later reload does not count as part of the launch
+        times.recordLaunchPhase(InternalState.SEND_STDIN, InternalState.SERVER_STARTING, at(200));
+        times.recordLaunchPhase(InternalState.SERVER_STARTING, InternalState.SERVER_STARTED, at(300));
+
+        result = times.toModelNode();
+        Assert.assertEquals(10, result.get(PROCESS_SPAWN_TIME).asLong());
+        Assert.assertEquals(20, result.get(REGISTRATION_TIME).asLong());
+        Assert.assertEquals(70, result.get(BOOT_TIME).asLong());
+    }
+
+    @Test
+    public void testRelaunchClearsPhaseTimes() {
+        final ManagedServer.LaunchTimes times = new ManagedServer.LaunchTimes();
+        times.launched(LAUNCH);
+        times.recordLaunchPhase(InternalState.PROCESS_STARTING, InternalState.PROCESS_STARTED, at(10));
+        times.recordLaunchPhase(InternalState.SEND_STDIN, InternalState.SERVER_STARTING, at(30));
+        times.recordLaunchPhase(InternalState.SERVER_STARTING, InternalState.SERVER_STARTED, at(100));
+
+        times.launched(at(1000));
+        times.recordLaunchPhase(InternalState.PROCESS_STARTING, InternalState.PROCESS_STARTED, at(1005));
+
+        final ModelNode result = times.toModelNode();
+        Assert.assertEquals(5, result.get(PROCESS_SPAWN_TIME).asLong());
+        Assert.assertFalse(result.hasDefined(REGISTRATION_TIME));
+        Assert.assertFalse(result.hasDefined(BOOT_TIME));
+    }
+
+    @Test
+    public void testReconnectedServerHasNoPhaseTimes() {
+        final ManagedServer.LaunchTimes times = new ManagedServer.LaunchTimes();
+        times.launched(LAUNCH);
+        times.recordLaunchPhase(InternalState.PROCESS_STARTING, InternalState.PROCESS_STARTED, at(10));
+
+        times.reset();
+        times.recordLaunchPhase(InternalState.SEND_STDIN, InternalState.SERVER_STARTING, at(30));
+        times.recordLaunchPhase(InternalState.SERVER_STARTING, InternalState.SERVER_STARTED, at(100));
+
+        Assert.assertFalse(times.toModelNode().isDefined());
+    }
+
+    private static long at(final long millis) {
+        return LAUNCH + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
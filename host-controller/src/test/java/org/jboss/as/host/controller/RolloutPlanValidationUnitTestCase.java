@@ -25,10 +25,13 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CON
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILED_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILURE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_SERVERS_PER_HOST;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ACROSS_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLING_TO_SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLOUT_PLAN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WAVE_SIZE;
 
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.domain.controller.resources.DomainRootDefinition;
@@ -171,6 +174,19 @@ public class RolloutPlanValidationUnitTestCase {
         validateRolloutPlanStructure(rolloutPlan);
     }
 
+    @Test
+    public void testServerGroupWithWaves() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        ModelNode group = inSeries.add().get(SERVER_GROUP).get("group1");
+        group.get(WAVE_SIZE).set(2);
+        group.get(MAX_SERVERS_PER_HOST).set(1);
+        group = inSeries.add().get(SERVER_GROUP).get("group2");
+        group.get(WAVE_PERCENTAGE).set(25);
+        group.get(MAX_FAILED_SERVERS).set(1);
+        validateRolloutPlanStructure(rolloutPlan);
+    }
+
     @Test
     public void testServerGroupWithUnrecognizedProp() throws Exception {
         final ModelNode rolloutPlan = new ModelNode();
@@ -23,8 +23,12 @@ package org.jboss.as.host.controller;
 import static org.hamcrest.CoreMatchers.is;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -39,4 +43,37 @@ public class ServerInventoryImplTestCase {
         byte[] expected = new byte[]{0x48, 0x65, 0x6c, 0x6c, 0x6f, 0x20, 0x00, 0x57, 0x6f, 0x72, 0x6c, 0x64};
         Assert.assertThat(Arrays.equals(Base64.getDecoder().decode(Base64.getEncoder().encode(array)), expected), is(true));
     }
+
+    @Test
+    public void testLaunchServersConcurrencyWindow() {
+        final List<String> serverNames = Arrays.asList("a", "b", "c", "d", "e");
+        final List<String> launched = new ArrayList<>();
+        final List<String> awaited = new ArrayList<>();
+        final int[] maxLaunching = new int[1];
+        ServerInventoryImpl.launchServers(serverNames, 2, serverName -> {
+            launched.add(serverName);
+            maxLaunching[0] = Math.max(maxLaunching[0], launched.size() - awaited.size());
+            return serverName;
+        }, awaited::add);
+
+        Assert.assertEquals(serverNames, launched);
+        // The oldest launched server is awaited first, and all of them are awaited before returning
+        Assert.assertEquals(serverNames, awaited);
+        Assert.assertEquals(2, maxLaunching[0]);
+    }
+
+    @Test
+    public void testLaunchServersSkipsFailedLaunch() {
+        final List<String> awaited = new ArrayList<>();
+        final Set<String> failed = ServerInventoryImpl.launchServers(Arrays.asList("a", "b", "c"), 1, serverName -> {
+            if ("b".equals(serverName)) {
+                throw new IllegalStateException(serverName);
+            }
+            return serverName;
+        }, awaited::add);
+
+        Assert.assertEquals(Arrays.asList("a", "c"), awaited);
+        // The failure is reported to the caller, which decides whether it fails the operation
+        Assert.assertEquals(Collections.singleton("b"), failed);
+    }
 }
@@ -23,6 +23,7 @@
 
 package org.wildfly.extension.io;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
 import java.util.Arrays;
@@ -30,15 +31,22 @@ import java.util.Collection;
 import java.util.List;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
@@ -82,24 +90,64 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
 
     static final SimpleAttributeDefinition BUFFER_SIZE = new SimpleAttributeDefinitionBuilder(Constants.BUFFER_SIZE, ModelType.INT, true)
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setValidator(new IntRangeValidator(1, true, true))
             .setAllowExpression(true)
             .build();
     static final SimpleAttributeDefinition BUFFER_PER_SLICE = new SimpleAttributeDefinitionBuilder(Constants.BUFFER_PER_SLICE, ModelType.INT, true)
-            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .setValidator(new IntRangeValidator(1, true, true))
             .setAllowExpression(true)
             .build();
     static final SimpleAttributeDefinition DIRECT_BUFFERS = new SimpleAttributeDefinitionBuilder(Constants.DIRECT_BUFFERS, ModelType.BOOLEAN, true)
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
             .setAllowExpression(true)
             .build();
+    /** The size of the thread local cache of XNIO's own buffer pool, see {@code xnio.bufferpool.threadlocal.size} */
+    static final int DEFAULT_THREAD_LOCAL_CACHE_SIZE = 12;
+    static final SimpleAttributeDefinition THREAD_LOCAL_CACHE_SIZE = new SimpleAttributeDefinitionBuilder(Constants.THREAD_LOCAL_CACHE_SIZE, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(DEFAULT_THREAD_LOCAL_CACHE_SIZE))
+            .build();
+
+
+    static final SimpleAttributeDefinition ALLOCATED_SLICES = new SimpleAttributeDefinitionBuilder(Constants.ALLOCATED_SLICES, ModelType.INT)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0))
+            .build();
+    static final SimpleAttributeDefinition BUFFERS_IN_USE = new SimpleAttributeDefinitionBuilder(Constants.BUFFERS_IN_USE, ModelType.INT)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0))
+            .build();
+    static final SimpleAttributeDefinition ALLOCATION_FAILURES = new SimpleAttributeDefinitionBuilder(Constants.ALLOCATION_FAILURES, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    static final SimpleAttributeDefinition DIRECT_MEMORY_USED = new SimpleAttributeDefinitionBuilder(Constants.DIRECT_MEMORY_USED, ModelType.LONG)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    static final SimpleAttributeDefinition THREAD_LOCAL_CACHE_HITS = new SimpleAttributeDefinitionBuilder(Constants.THREAD_LOCAL_CACHE_HITS, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    static final SimpleAttributeDefinition THREAD_LOCAL_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(Constants.THREAD_LOCAL_CACHE_MISSES, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
 
+    static final SimpleOperationDefinition TRIM = new SimpleOperationDefinitionBuilder(Constants.TRIM, IOExtension.getResolver(Constants.BUFFER_POOL))
+            .setRuntimeOnly()
+            .setReplyType(ModelType.INT)
+            .build();
 
     /*<buffer-pool name="default" buffer-size="1024" buffers-per-slice="1024"/>*/
 
     static List<SimpleAttributeDefinition> ATTRIBUTES = Arrays.asList(
             BUFFER_SIZE,
             BUFFER_PER_SLICE,
-            DIRECT_BUFFERS
+            DIRECT_BUFFERS,
+            THREAD_LOCAL_CACHE_SIZE
     );
 
 
@@ -120,6 +168,31 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         return (Collection) ATTRIBUTES;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        final BufferPoolWriteHandler writeHandler = new BufferPoolWriteHandler();
+        resourceRegistration.registerReadWriteAttribute(BUFFER_PER_SLICE, null, writeHandler);
+        resourceRegistration.registerReadWriteAttribute(THREAD_LOCAL_CACHE_SIZE, null, writeHandler);
+        // The users of a pool may size their own structures after its buffers, so a new size needs a reload
+        final ReloadRequiredWriteAttributeHandler reloadRequiredHandler = new ReloadRequiredWriteAttributeHandler(BUFFER_SIZE, DIRECT_BUFFERS);
+        resourceRegistration.registerReadWriteAttribute(BUFFER_SIZE, null, reloadRequiredHandler);
+        resourceRegistration.registerReadWriteAttribute(DIRECT_BUFFERS, null, reloadRequiredHandler);
+
+        final BufferPoolMetricsHandler metricsHandler = new BufferPoolMetricsHandler();
+        resourceRegistration.registerMetric(ALLOCATED_SLICES, metricsHandler);
+        resourceRegistration.registerMetric(BUFFERS_IN_USE, metricsHandler);
+        resourceRegistration.registerMetric(ALLOCATION_FAILURES, metricsHandler);
+        resourceRegistration.registerMetric(DIRECT_MEMORY_USED, metricsHandler);
+        resourceRegistration.registerMetric(THREAD_LOCAL_CACHE_HITS, metricsHandler);
+        resourceRegistration.registerMetric(THREAD_LOCAL_CACHE_MISSES, metricsHandler);
+    }
+
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        resourceRegistration.registerOperationHandler(TRIM, new TrimHandler());
+    }
+
     @Override
     public void registerCapabilities(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerCapability(IO_POOL_RUNTIME_CAPABILITY);
@@ -139,15 +212,106 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             final ModelNode bufferPerSliceModel = BUFFER_PER_SLICE.resolveModelAttribute(context, model);
             final ModelNode directModel = DIRECT_BUFFERS.resolveModelAttribute(context, model);
 
-            final int bufferSize = bufferSizeModel.isDefined() ? bufferSizeModel.asInt() : defaultBufferSize;
-            final int bufferPerSlice = bufferPerSliceModel.isDefined() ? bufferPerSliceModel.asInt() : defaultBuffersPerRegion;
+            final int bufferSize = getBufferSize(bufferSizeModel);
+            final int bufferPerSlice = getBuffersPerSlice(bufferPerSliceModel);
             final boolean direct = directModel.isDefined() ? directModel.asBoolean() : defaultDirectBuffers;
 
             final BufferPoolService service = new BufferPoolService(bufferSize, bufferPerSlice, direct);
+            service.setThreadLocalCacheSize(THREAD_LOCAL_CACHE_SIZE.resolveModelAttribute(context, model).asInt());
             context.getServiceTarget().addService(IOServices.BUFFER_POOL.append(name), service)
                     .setInitialMode(ServiceController.Mode.ACTIVE)
                     .install();
 
         }
     }
+
+    private static int getBufferSize(ModelNode bufferSizeModel) {
+        return bufferSizeModel.isDefined() ? bufferSizeModel.asInt() : defaultBufferSize;
+    }
+
+    private static int getBuffersPerSlice(ModelNode bufferPerSliceModel) {
+        return bufferPerSliceModel.isDefined() ? bufferPerSliceModel.asInt() : defaultBuffersPerRegion;
+    }
+
+    private static BufferPoolService getService(OperationContext context, boolean modify) {
+        final ServiceController<?> controller = context.getServiceRegistry(modify).getService(IOServices.BUFFER_POOL.append(context.getCurrentAddressValue()));
+        return controller == null ? null : (BufferPoolService) controller.getService();
+    }
+
+    /**
+     * Applies a new number of buffers per slice or thread local cache size to the running pool. Slices already
+     * allocated keep their number of buffers.
+     */
+    private static class BufferPoolWriteHandler extends AbstractWriteAttributeHandler<Void> {
+
+        private BufferPoolWriteHandler() {
+            super(BUFFER_PER_SLICE, THREAD_LOCAL_CACHE_SIZE);
+        }
+
+        @Override
+        protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                               ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Void> handbackHolder) throws OperationFailedException {
+            apply(context, attributeName, resolvedValue);
+            return false;
+        }
+
+        @Override
+        protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                             ModelNode valueToRestore, ModelNode valueToRevert, Void handback) throws OperationFailedException {
+            apply(context, attributeName, getAttributeDefinition(attributeName).resolveValue(context, valueToRestore));
+        }
+
+        private void apply(OperationContext context, String attributeName, ModelNode value) {
+            final BufferPoolService service = getService(context, true);
+            if (service == null) {
+                return;
+            }
+            if (BUFFER_PER_SLICE.getName().equals(attributeName)) {
+                service.setBuffersPerSlice(getBuffersPerSlice(value));
+            } else {
+                service.setThreadLocalCacheSize(value.asInt());
+            }
+        }
+    }
+
+    private static class BufferPoolMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final BufferPoolService service = getService(context, false);
+            final ResizableBufferPool pool = service == null ? null : service.getBufferPool();
+            if (pool != null) {
+                switch (operation.require(NAME).asString()) {
+                    case Constants.ALLOCATED_SLICES:
+                        context.getResult().set(pool.getAllocatedSliceCount());
+                        break;
+                    case Constants.BUFFERS_IN_USE:
+                        context.getResult().set(pool.getBuffersInUse());
+                        break;
+                    case Constants.ALLOCATION_FAILURES:
+                        context.getResult().set(pool.getAllocationFailures());
+                        break;
+                    case Constants.DIRECT_MEMORY_USED:
+                        context.getResult().set(pool.getDirectMemoryUsed());
+                        break;
+                    case Constants.THREAD_LOCAL_CACHE_HITS:
+                        context.getResult().set(pool.getThreadLocalCacheHits());
+                        break;
+                    case Constants.THREAD_LOCAL_CACHE_MISSES:
+                        context.getResult().set(pool.getThreadLocalCacheMisses());
+                        break;
+                }
+            }
+        }
+    }
+
+    private static class TrimHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final BufferPoolService service = getService(context, false);
+            final ResizableBufferPool pool = service == null ? null : service.getBufferPool();
+            context.getResult().set(pool == null ? 0 : pool.trim());
+        }
+    }
 }
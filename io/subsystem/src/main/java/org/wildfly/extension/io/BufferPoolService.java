@@ -30,18 +30,17 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
-import org.xnio.BufferAllocator;
-import org.xnio.ByteBufferSlicePool;
 import org.xnio.Pool;
 
 /**
  * @author <a href="mailto:tomaz.cerar@redhat.com">Tomaz Cerar</a> (c) 2013 Red Hat Inc.
  */
 public class BufferPoolService implements Service<Pool<ByteBuffer>> {
-    private volatile Pool<ByteBuffer> bufferPool;
+    private volatile ResizableBufferPool bufferPool;
     /*<buffer-pool name="default" buffer-size="2048" buffers-per-slice="512"/>*/
     private final int bufferSize;
-    private final int buffersPerSlice;
+    private volatile int buffersPerSlice;
+    private volatile int threadLocalCacheSize;
     private final boolean directBuffers;
 
     public BufferPoolService(int bufferSize, int buffersPerSlice, final boolean directBuffers) {
@@ -52,16 +51,44 @@ public class BufferPoolService implements Service<Pool<ByteBuffer>> {
 
     @Override
     public void start(StartContext context) throws StartException {
-        bufferPool = new ByteBufferSlicePool(directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR, bufferSize, buffersPerSlice * bufferSize);
+        final ResizableBufferPool bufferPool = new ResizableBufferPool(bufferSize, buffersPerSlice, directBuffers);
+        bufferPool.setThreadLocalCacheSize(threadLocalCacheSize);
+        this.bufferPool = bufferPool;
     }
 
     @Override
     public void stop(StopContext context) {
-
+        final ResizableBufferPool bufferPool = this.bufferPool;
+        if (bufferPool != null) {
+            bufferPool.close();
+        }
     }
 
     @Override
     public Pool<ByteBuffer> getValue() throws IllegalStateException, IllegalArgumentException {
         return bufferPool;
     }
+
+    void setBuffersPerSlice(int buffersPerSlice) {
+        this.buffersPerSlice = buffersPerSlice;
+        final ResizableBufferPool bufferPool = this.bufferPool;
+        if (bufferPool != null) {
+            bufferPool.setBuffersPerSlice(buffersPerSlice);
+        }
+    }
+
+    void setThreadLocalCacheSize(int threadLocalCacheSize) {
+        this.threadLocalCacheSize = threadLocalCacheSize;
+        final ResizableBufferPool bufferPool = this.bufferPool;
+        if (bufferPool != null) {
+            bufferPool.setThreadLocalCacheSize(threadLocalCacheSize);
+        }
+    }
+
+    /**
+     * @return the pool, or {@code null} if the service is not started
+     */
+    ResizableBufferPool getBufferPool() {
+        return bufferPool;
+    }
 }
@@ -28,10 +28,14 @@ package org.wildfly.extension.io;
  * @author <a href="mailto:tomaz.cerar@redhat.com">Tomaz Cerar</a> (c) 2013 Red Hat Inc.
  */
 interface Constants {
+    String ALLOCATED_SLICES = "allocated-slices";
+    String ALLOCATION_FAILURES = "allocation-failures";
     String BUFFER_POOL = "buffer-pool";
     String BUFFER_SIZE = "buffer-size";
     String BUFFER_PER_SLICE = "buffers-per-slice";
+    String BUFFERS_IN_USE = "buffers-in-use";
     String DIRECT_BUFFERS = "direct-buffers";
+    String DIRECT_MEMORY_USED = "direct-memory-used";
     String WORKER = "worker";
     String WORKER_IO_THREADS = "io-threads";
     String WORKER_TASK_CORE_THREADS = "task-core-threads";
@@ -40,4 +44,8 @@ interface Constants {
     String WORKER_TASK_MAX_THREADS = "task-max-threads";
     String THREAD_DAEMON = "thread-daemon";
     String STACK_SIZE = "stack-size";
+    String THREAD_LOCAL_CACHE_HITS = "thread-local-cache-hits";
+    String THREAD_LOCAL_CACHE_MISSES = "thread-local-cache-misses";
+    String THREAD_LOCAL_CACHE_SIZE = "thread-local-cache-size";
+    String TRIM = "trim";
 }
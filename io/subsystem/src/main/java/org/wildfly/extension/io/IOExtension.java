@@ -35,6 +35,11 @@ import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.operations.common.GenericSubsystemDescribeHandler;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.dmr.ModelNode;
 
 
 /**
@@ -48,6 +53,9 @@ public class IOExtension implements Extension {
     protected static final PathElement WORKER_PATH = PathElement.pathElement(Constants.WORKER);
     private static final String RESOURCE_NAME = IOExtension.class.getPackage().getName() + ".LocalDescriptions";
 
+    static final ModelVersion VERSION_2_0_0 = ModelVersion.create(2);
+    private static final ModelVersion CURRENT_VERSION = ModelVersion.create(2, 1);
+
     public static StandardResourceDescriptionResolver getResolver(final String... keyPrefix) {
         StringBuilder prefix = new StringBuilder(SUBSYSTEM_NAME);
         for (String kp : keyPrefix) {
@@ -60,14 +68,34 @@ public class IOExtension implements Extension {
     public void initializeParsers(ExtensionParsingContext context) {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.IO_1_0.getUriString(), IOSubsystemParser_1_0::new);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.IO_1_1.getUriString(), IOSubsystemParser_1_1::new);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.IO_1_2.getUriString(), IOSubsystemParser_1_2::new);
     }
 
     @Override
     public void initialize(ExtensionContext context) {
-        final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, ModelVersion.create(2));
+        final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, CURRENT_VERSION);
         final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(IORootDefinition.INSTANCE);
         registration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE, false);
-        subsystem.registerXMLElementWriter(new IOSubsystemParser_1_1());
+        subsystem.registerXMLElementWriter(new IOSubsystemParser_1_2());
+
+        if (context.isRegisterTransformers()) {
+            registerTransformers_2_0_0(subsystem);
+        }
+    }
+
+    /**
+     * Hosts running model version 2.0.0 don't know the thread local cache of buffer pools. Their pools are XNIO's own,
+     * whose threads cache as many buffers as the default size.
+     *
+     * @param subsystemRegistration the subsystem registration
+     */
+    private static void registerTransformers_2_0_0(final SubsystemRegistration subsystemRegistration) {
+        ResourceTransformationDescriptionBuilder builder = ResourceTransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.addChildResource(BUFFER_POOL_PATH).getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(BufferPoolResourceDefinition.DEFAULT_THREAD_LOCAL_CACHE_SIZE)), BufferPoolResourceDefinition.THREAD_LOCAL_CACHE_SIZE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, BufferPoolResourceDefinition.THREAD_LOCAL_CACHE_SIZE)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), subsystemRegistration, VERSION_2_0_0);
     }
 
 
@@ -37,7 +37,7 @@ class IOSubsystemParser_1_1 extends PersistentResourceXMLParser {
     private static final PersistentResourceXMLDescription xmlDescription;
 
     static {
-        xmlDescription = builder(IORootDefinition.INSTANCE.getPathElement(), Namespace.CURRENT.getUriString())
+        xmlDescription = builder(IORootDefinition.INSTANCE.getPathElement(), Namespace.IO_1_1.getUriString())
                 .addChild(
                         builder(WorkerResourceDefinition.INSTANCE.getPathElement())
                                 .addAttributes(
@@ -0,0 +1,456 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.extension.io.logging.IOLogger;
+import org.xnio.BufferAllocator;
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * A pool of byte buffers that are sliced from larger regions, like {@link org.xnio.ByteBufferSlicePool}, but whose
+ * number of buffers per slice can be changed while it is in use, and whose idle slices can be released. The buffer
+ * size is fixed, as the users of the pool may size their own structures after the first buffer they get.
+ * <p/>
+ * The pool grows by a slice whenever no buffer is free. A slice is released when the pool is trimmed if none of its
+ * buffers is in use. Releasing a slice only drops the pool's references to it; its memory is reclaimed by the garbage
+ * collector.
+ * <p/>
+ * Optionally each thread that allocates buffers keeps a small cache of free buffers, so that a thread that keeps
+ * allocating and freeing buffers, like an I/O thread, does not touch the shared queue of free buffers in the common
+ * case. Threads that only free buffers allocated elsewhere get no cache, and return the buffers to the shared queue.
+ * A cached buffer still holds on to its slice, so a slice is neither released nor counted as released while any of
+ * its buffers is cached. The pool keeps track of the caches, and drains them into the shared queue when their size is
+ * lowered, when it is trimmed and when it is closed. The caches of threads that have ended are drained and forgotten
+ * whenever the caches are drained and whenever a thread gets a new cache, so that pools used by short-lived threads
+ * don't accumulate them. A thread keeps an empty cache after the pool is closed, which does not refer to the pool.
+ */
+final class ResizableBufferPool implements Pool<ByteBuffer> {
+
+    private final BufferAllocator<ByteBuffer> allocator;
+    private final boolean direct;
+    private final Queue<Buffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final Set<Slice> slices = ConcurrentHashMap.newKeySet();
+    // Updated on every allocation and free, so it is striped rather than one contended counter
+    private final LongAdder buffersInUse = new LongAdder();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final LongAdder allocationFailures = new LongAdder();
+    private final Set<ThreadCache> threadCaches = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<ThreadCache> threadLocalCache = new ThreadLocal<>();
+    private final LongAdder threadLocalCacheHits = new LongAdder();
+    private final LongAdder threadLocalCacheMisses = new LongAdder();
+
+    private final int bufferSize;
+    private volatile int buffersPerSlice;
+    private volatile int threadLocalCacheSize;
+    private volatile boolean closed;
+
+    ResizableBufferPool(int bufferSize, int buffersPerSlice, boolean direct) {
+        this.allocator = direct ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR;
+        this.direct = direct;
+        this.bufferSize = bufferSize;
+        this.buffersPerSlice = buffersPerSlice;
+    }
+
+    @Override
+    public Pooled<ByteBuffer> allocate() {
+        Buffer buffer;
+        if (threadLocalCacheSize > 0) {
+            ThreadCache cache = threadLocalCache.get();
+            if (cache == null) {
+                cache = createThreadCache();
+                threadLocalCache.set(cache);
+            }
+            // A cached buffer still holds on to its slice
+            if ((buffer = cache.poll()) != null) {
+                buffersInUse.increment();
+                threadLocalCacheHits.increment();
+                return new PooledBuffer(this, buffer);
+            }
+            threadLocalCacheMisses.increment();
+        }
+        while ((buffer = freeBuffers.poll()) != null) {
+            if (acquire(buffer)) {
+                return new PooledBuffer(this, buffer);
+            }
+        }
+        buffersInUse.increment();
+        return new PooledBuffer(this, allocateSlice());
+    }
+
+    private boolean acquire(Buffer buffer) {
+        // Drop the buffers of released slices
+        if (buffer.slice.acquire()) {
+            buffersInUse.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Changes the number of buffers in the slices that are allocated from now on.
+     *
+     * @param buffersPerSlice the number of buffers per slice
+     */
+    void setBuffersPerSlice(int buffersPerSlice) {
+        this.buffersPerSlice = buffersPerSlice;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getBuffersPerSlice() {
+        return buffersPerSlice;
+    }
+
+    /**
+     * Changes the number of free buffers each thread may keep for itself. If it is lowered, the caches are drained
+     * down to the new size.
+     *
+     * @param threadLocalCacheSize the number of buffers, or 0 to disable the caches
+     */
+    void setThreadLocalCacheSize(int threadLocalCacheSize) {
+        this.threadLocalCacheSize = threadLocalCacheSize;
+        drainThreadCaches(threadLocalCacheSize);
+    }
+
+    private ThreadCache createThreadCache() {
+        pruneThreadCaches();
+        final ThreadCache cache = new ThreadCache();
+        threadCaches.add(cache);
+        if (closed) {
+            cache.close();
+        }
+        return cache;
+    }
+
+    /**
+     * Moves the buffers of the thread caches above the given size to the shared queue of free buffers, and all
+     * buffers of the caches of threads that have ended, which are then forgotten.
+     */
+    private void drainThreadCaches(int size) {
+        for (ThreadCache cache : threadCaches) {
+            if (cache.isOwnerAlive()) {
+                drainThreadCache(cache, size);
+            } else {
+                forgetThreadCache(cache);
+            }
+        }
+    }
+
+    /**
+     * Returns the buffers of the caches of threads that have ended to the shared queue of free buffers, and forgets
+     * the caches.
+     */
+    private void pruneThreadCaches() {
+        for (ThreadCache cache : threadCaches) {
+            if (!cache.isOwnerAlive()) {
+                forgetThreadCache(cache);
+            }
+        }
+    }
+
+    private void forgetThreadCache(ThreadCache cache) {
+        // Nothing adds to the cache of a thread that has ended, so it stays empty once drained
+        drainThreadCache(cache, 0);
+        threadCaches.remove(cache);
+    }
+
+    private void drainThreadCache(ThreadCache cache, int size) {
+        Buffer buffer;
+        while ((buffer = cache.removeOldest(size)) != null) {
+            freeBuffers.add(buffer);
+            buffer.slice.release();
+        }
+    }
+
+    /**
+     * Drains the thread caches and disables them, so that the threads don't keep buffers of a pool that is no longer
+     * used. Buffers that are still in use can be freed afterwards.
+     */
+    void close() {
+        closed = true;
+        threadLocalCacheSize = 0;
+        // A thread may be freeing a buffer into its cache right now, so the caches refuse buffers before being drained
+        for (ThreadCache cache : threadCaches) {
+            cache.close();
+        }
+        drainThreadCaches(0);
+        threadCaches.clear();
+    }
+
+    int getThreadLocalCacheSize() {
+        return threadLocalCacheSize;
+    }
+
+    long getThreadLocalCacheHits() {
+        return threadLocalCacheHits.sum();
+    }
+
+    long getThreadLocalCacheMisses() {
+        return threadLocalCacheMisses.sum();
+    }
+
+    /**
+     * Releases all slices none of whose buffers is in use, after draining the thread caches.
+     *
+     * @return the number of released slices
+     */
+    int trim() {
+        drainThreadCaches(0);
+        int released = 0;
+        for (Slice slice : slices) {
+            if (slice.retire()) {
+                slices.remove(slice);
+                allocatedBytes.addAndGet(-slice.capacity);
+                released++;
+            }
+        }
+        if (released > 0) {
+            freeBuffers.removeIf(buffer -> buffer.slice.isRetired());
+        }
+        return released;
+    }
+
+    int getAllocatedSliceCount() {
+        return slices.size();
+    }
+
+    int getBuffersInUse() {
+        return (int) buffersInUse.sum();
+    }
+
+    long getAllocationFailures() {
+        return allocationFailures.sum();
+    }
+
+    /**
+     * @return the number of bytes of direct memory held by the allocated slices, which is 0 for a heap buffer pool
+     */
+    long getDirectMemoryUsed() {
+        return direct ? allocatedBytes.get() : 0;
+    }
+
+    private Buffer allocateSlice() {
+        final int buffersPerSlice = this.buffersPerSlice;
+        final ByteBuffer region;
+        try {
+            region = allocator.allocate(bufferSize * buffersPerSlice);
+        } catch (OutOfMemoryError e) {
+            // Typically the direct memory limit has been reached; a single buffer may still fit
+            allocationFailures.increment();
+            IOLogger.ROOT_LOGGER.debugf(e, "Failed to allocate a slice of %d buffers of %d bytes", buffersPerSlice, bufferSize);
+            return new Buffer(null, allocator.allocate(bufferSize));
+        }
+        final Slice slice = new Slice(region.capacity());
+        slices.add(slice);
+        allocatedBytes.addAndGet(slice.capacity);
+        Buffer first = null;
+        for (int i = 0; i < buffersPerSlice; i++) {
+            region.limit((i + 1) * bufferSize).position(i * bufferSize);
+            final Buffer buffer = new Buffer(slice, region.slice());
+            if (first == null) {
+                first = buffer;
+            } else {
+                freeBuffers.add(buffer);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * @param reuse {@code false} if the buffer was discarded. It is then never reused, but its slice can still be
+     *              released once its other buffers are free
+     */
+    private void free(Buffer buffer, boolean reuse) {
+        buffersInUse.decrement();
+        final Slice slice = buffer.slice;
+        if (slice == null) {
+            return;
+        }
+        if (reuse) {
+            buffer.buffer.clear();
+            final int threadLocalCacheSize = this.threadLocalCacheSize;
+            if (threadLocalCacheSize > 0) {
+                // Only threads that allocate have a cache, the others would only ever fill theirs
+                final ThreadCache cache = threadLocalCache.get();
+                if (cache != null && cache.offer(buffer, threadLocalCacheSize)) {
+                    // The slice is released when the buffer leaves the cache
+                    return;
+                }
+            }
+            freeBuffers.add(buffer);
+        }
+        slice.release();
+    }
+
+    private static final class Slice {
+
+        private static final AtomicIntegerFieldUpdater<Slice> inUseUpdater = AtomicIntegerFieldUpdater.newUpdater(Slice.class, "inUse");
+        private static final int RETIRED = -1;
+
+        private final int capacity;
+
+        /** The number of buffers handed out and not freed yet, or {@link #RETIRED} */
+        private volatile int inUse;
+
+        private Slice(int capacity) {
+            this.capacity = capacity;
+            // the first buffer goes straight to the caller
+            this.inUse = 1;
+        }
+
+        boolean acquire() {
+            int current;
+            do {
+                current = inUse;
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!inUseUpdater.compareAndSet(this, current, current + 1));
+            return true;
+        }
+
+        int release() {
+            return inUseUpdater.decrementAndGet(this);
+        }
+
+        boolean retire() {
+            return inUseUpdater.compareAndSet(this, 0, RETIRED);
+        }
+
+        boolean isRetired() {
+            return inUse == RETIRED;
+        }
+    }
+
+    /**
+     * The free buffers cached by a thread. Only its thread adds and takes buffers, but the pool drains it from
+     * other threads, hence the locking, which is uncontended in the common case. It does not refer to the pool, so
+     * that the pool can be garbage collected while threads still hold on to their cache, and the pool does not keep
+     * its thread from being garbage collected once it has ended.
+     */
+    private static final class ThreadCache {
+
+        private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+        private final ArrayDeque<Buffer> buffers = new ArrayDeque<>();
+        private boolean closed;
+
+        synchronized Buffer poll() {
+            return buffers.pollLast();
+        }
+
+        synchronized boolean offer(Buffer buffer, int maxSize) {
+            if (!closed && buffers.size() < maxSize) {
+                buffers.addLast(buffer);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return the oldest buffer if there are more than the given number of buffers, {@code null} otherwise
+         */
+        synchronized Buffer removeOldest(int size) {
+            return buffers.size() > size ? buffers.pollFirst() : null;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        boolean isOwnerAlive() {
+            final Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+    }
+
+    private static final class Buffer {
+
+        private final Slice slice;
+        private final ByteBuffer buffer;
+
+        private Buffer(Slice slice, ByteBuffer buffer) {
+            this.slice = slice;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class PooledBuffer implements Pooled<ByteBuffer> {
+
+        private static final AtomicIntegerFieldUpdater<PooledBuffer> freedUpdater = AtomicIntegerFieldUpdater.newUpdater(PooledBuffer.class, "freed");
+
+        private final ResizableBufferPool pool;
+        private final Buffer buffer;
+        private volatile int freed;
+
+        private PooledBuffer(ResizableBufferPool pool, Buffer buffer) {
+            this.pool = pool;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void discard() {
+            if (freedUpdater.compareAndSet(this, 0, 1)) {
+                pool.free(buffer, false);
+            }
+        }
+
+        @Override
+        public void free() {
+            if (freedUpdater.compareAndSet(this, 0, 1)) {
+                pool.free(buffer, true);
+            }
+        }
+
+        @Override
+        public ByteBuffer getResource() throws IllegalStateException {
+            if (freed != 0) {
+                throw IOLogger.ROOT_LOGGER.bufferFreed();
+            }
+            return buffer.buffer;
+        }
+
+        @Override
+        public void close() {
+            free();
+        }
+
+        @Override
+        public String toString() {
+            return "Pooled buffer " + buffer.buffer;
+        }
+    }
+}
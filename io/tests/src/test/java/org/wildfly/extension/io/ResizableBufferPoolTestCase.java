@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.io;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.Pooled;
+
+/**
+ * Tests the {@link ResizableBufferPool} on its own, outside of the subsystem.
+ */
+public class ResizableBufferPoolTestCase {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResizableBufferPool() throws Exception {
+        ResizableBufferPool pool = new ResizableBufferPool(1024, 4, false);
+        Pooled<ByteBuffer> first = pool.allocate();
+        Assert.assertEquals(1024, first.getResource().capacity());
+        Assert.assertEquals(1, pool.getAllocatedSliceCount());
+        Pooled<ByteBuffer>[] others = new Pooled[4];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = pool.allocate();
+        }
+        // The fifth buffer needs a second slice
+        Assert.assertEquals(2, pool.getAllocatedSliceCount());
+        Assert.assertEquals(5, pool.getBuffersInUse());
+        Assert.assertEquals(0, pool.getDirectMemoryUsed());
+
+        // A new number of buffers per slice applies to the slices allocated afterwards
+        pool.setBuffersPerSlice(1);
+        Pooled<ByteBuffer>[] more = new Pooled[4];
+        for (int i = 0; i < more.length; i++) {
+            more[i] = pool.allocate();
+        }
+        Assert.assertEquals(3, pool.getAllocatedSliceCount());
+
+        // Only the slices none of whose buffers is in use are released
+        first.free();
+        for (Pooled<ByteBuffer> buffer : others) {
+            buffer.free();
+        }
+        Assert.assertEquals(1, pool.trim());
+        for (Pooled<ByteBuffer> buffer : more) {
+            buffer.free();
+        }
+        Assert.assertEquals(2, pool.trim());
+        Assert.assertEquals(0, pool.getAllocatedSliceCount());
+        Assert.assertEquals(0, pool.getBuffersInUse());
+
+        Pooled<ByteBuffer> last = pool.allocate();
+        Assert.assertEquals(1024, last.getResource().capacity());
+        Assert.assertEquals(0, pool.trim());
+        last.free();
+        Assert.assertEquals(1, pool.trim());
+        Assert.assertEquals(0, pool.getAllocatedSliceCount());
+        try {
+            last.getResource();
+            Assert.fail("Buffer was freed");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testThreadLocalCache() throws Exception {
+        ResizableBufferPool pool = new ResizableBufferPool(1024, 4, false);
+        pool.setThreadLocalCacheSize(2);
+        Pooled<ByteBuffer> first = pool.allocate();
+        Pooled<ByteBuffer> second = pool.allocate();
+        Assert.assertEquals(0, pool.getThreadLocalCacheHits());
+        Assert.assertEquals(2, pool.getThreadLocalCacheMisses());
+        ByteBuffer firstBuffer = first.getResource();
+        ByteBuffer secondBuffer = second.getResource();
+        first.free();
+        second.free();
+
+        // The buffer freed last is reused first
+        Assert.assertSame(secondBuffer, pool.allocate().getResource());
+        Assert.assertSame(firstBuffer, pool.allocate().getResource());
+        Assert.assertEquals(2, pool.getThreadLocalCacheHits());
+        Assert.assertEquals(2, pool.getBuffersInUse());
+
+        // Trimming drains the cache, so the slice of a cached buffer is released
+        ResizableBufferPool idle = new ResizableBufferPool(1024, 4, false);
+        idle.setThreadLocalCacheSize(2);
+        idle.allocate().free();
+        Assert.assertEquals(1, idle.trim());
+        Assert.assertEquals(1024, idle.allocate().getResource().capacity());
+        Assert.assertEquals(1, idle.getAllocatedSliceCount());
+    }
+
+    @Test
+    public void testThreadCachesOfOtherThreads() throws Exception {
+        ResizableBufferPool pool = new ResizableBufferPool(1024, 4, true);
+        pool.setThreadLocalCacheSize(2);
+        runInThread(() -> pool.allocate().free());
+        // The buffer cached by the other thread holds on to its slice
+        Assert.assertEquals(0, pool.getBuffersInUse());
+        Assert.assertEquals(4096, pool.getDirectMemoryUsed());
+        Assert.assertEquals(1, pool.trim());
+        Assert.assertEquals(0, pool.getDirectMemoryUsed());
+
+        // Disabling the caches returns their buffers to the pool
+        runInThread(() -> pool.allocate().free());
+        pool.setThreadLocalCacheSize(0);
+        pool.allocate().free();
+        Assert.assertEquals(1, pool.getAllocatedSliceCount());
+
+        // Closing the pool drains the caches, and buffers freed afterwards are not cached
+        pool.setThreadLocalCacheSize(2);
+        Pooled<ByteBuffer> buffer = pool.allocate();
+        pool.allocate().free();
+        pool.close();
+        buffer.free();
+        Assert.assertEquals(1, pool.trim());
+        Assert.assertEquals(0, pool.getDirectMemoryUsed());
+    }
+
+    @Test
+    public void testThreadCachesOfFreeingAndEndedThreads() throws Exception {
+        ResizableBufferPool pool = new ResizableBufferPool(1024, 1, false);
+        pool.setThreadLocalCacheSize(2);
+
+        // A thread that only frees a buffer gets no cache, so the buffer goes back to the shared queue
+        Pooled<ByteBuffer> buffer = pool.allocate();
+        ByteBuffer resource = buffer.getResource();
+        runInThread(buffer::free);
+        Assert.assertSame(resource, pool.allocate().getResource());
+        Assert.assertEquals(1, pool.getAllocatedSliceCount());
+
+        // The cache of a thread that has ended is drained when another thread gets a cache
+        ResizableBufferPool other = new ResizableBufferPool(1024, 1, false);
+        other.setThreadLocalCacheSize(2);
+        runInThread(() -> other.allocate().free());
+        runInThread(() -> other.allocate().free());
+        Assert.assertEquals(1, other.getAllocatedSliceCount());
+        Assert.assertEquals(2, other.getThreadLocalCacheMisses());
+    }
+
+    private static void runInThread(Runnable task) throws InterruptedException {
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+    }
+}
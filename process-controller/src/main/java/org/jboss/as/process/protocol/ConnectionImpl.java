@@ -22,15 +22,15 @@
 
 package org.jboss.as.process.protocol;
 
-import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
 import java.io.FilterInputStream;
-import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.util.Arrays;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.process.logging.ProcessLogger;
@@ -46,7 +46,9 @@ final class ConnectionImpl implements Connection {
     private final Object lock = new Object();
 
     // protected by {@link #lock}
-    private OutputStream sender;
+    private MessageOutputStream sender;
+    // protected by {@link #lock}
+    private int openMessages;
     // protected by {@link #lock}
     private boolean readDone;
     // protected by {@link #lock}
@@ -71,39 +73,20 @@ final class ConnectionImpl implements Connection {
 
     @Override
     public OutputStream writeMessage() throws IOException {
-        final OutputStream os;
         synchronized (lock) {
             if (writeDone) {
                 throw ProcessLogger.ROOT_LOGGER.writesAlreadyShutdown();
             }
-            while (sender != null) {
-                try {
-                    lock.wait();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new InterruptedIOException();
-                }
-            }
-            boolean ok = false;
-            try {
-                sender = new MessageOutputStream();
-                os = new BufferedOutputStream(sender);
-                ok = true;
-            } finally {
-                if (! ok) {
-                    // let someone else try
-                    lock.notify();
-                }
-            }
+            openMessages++;
         }
-        return os;
+        return new MessageOutputStream();
     }
 
     @Override
     public void shutdownWrites() throws IOException {
         synchronized (lock) {
             if (writeDone) return;
-            while (sender != null) {
+            while (openMessages > 0) {
                 try {
                     lock.wait();
                 } catch (InterruptedException e) {
@@ -124,8 +107,8 @@ final class ConnectionImpl implements Connection {
     @Override
     public void close() throws IOException {
         synchronized (lock) {
-            lock.notifyAll();
             sender = null;
+            openMessages = 0;
             readDone = true;
             writeDone = true;
             socket.close();
@@ -180,8 +163,8 @@ final class ConnectionImpl implements Connection {
                 OutputStream mos = null;
                 try {
                     Pipe pipe = null;
-                    final InputStream is = socket.getInputStream();
                     final int bufferSize = 8192;
+                    final InputStream is = new BufferedInputStream(socket.getInputStream(), bufferSize);
                     final byte[] buffer = new byte[bufferSize];
                     for (;;) {
 
@@ -319,62 +302,137 @@ final class ConnectionImpl implements Connection {
         }
     }
 
-    final class MessageOutputStream extends FilterOutputStream {
+    /**
+     * The stream of a message being written. The message is buffered, so that a message that is complete by the time
+     * it is closed is sent with a single write, and messages written by different threads don't wait for each other
+     * while they are being composed. A message that does not fit in the buffer is sent in chunks instead; it then
+     * holds the connection until it is closed, as the chunks of different messages cannot be interleaved.
+     */
+    final class MessageOutputStream extends OutputStream {
 
-        private final byte[] hdr = new byte[5];
+        private static final int HEADER_SIZE = 5;
+        private static final int INITIAL_BUFFER_SIZE = 512;
+        private static final int MAX_BUFFER_SIZE = 65536;
 
-        MessageOutputStream() throws IOException {
-            super(socket.getOutputStream());
-        }
+        /** The chunk header, followed by the buffered bytes and room for the end marker */
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int count;
+        private boolean closed;
 
         @Override
         public void write(final int b) throws IOException {
-            throw new IllegalStateException();
+            if (closed) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            }
+            if (reserve(1) == 0) {
+                sendChunk();
+            }
+            buffer[HEADER_SIZE + count++] = (byte) b;
         }
 
         @Override
-        public void write(final byte[] b, final int off, final int len) throws IOException {
-            if (len == 0) {
-                return;
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            }
+            while (len > 0) {
+                final int space = reserve(len);
+                if (space == 0) {
+                    sendChunk();
+                    continue;
+                }
+                final int cnt = Math.min(space, len);
+                System.arraycopy(b, off, buffer, HEADER_SIZE + count, cnt);
+                count += cnt;
+                off += cnt;
+                len -= cnt;
             }
-            final byte[] hdr = this.hdr;
+        }
+
+        private int reserve(final int len) {
+            int space = buffer.length - HEADER_SIZE - 1 - count;
+            if (space < len && buffer.length < MAX_BUFFER_SIZE) {
+                buffer = Arrays.copyOf(buffer, Math.min(MAX_BUFFER_SIZE, Math.max(buffer.length << 1, HEADER_SIZE + 1 + count + len)));
+                space = buffer.length - HEADER_SIZE - 1 - count;
+            }
+            return space;
+        }
+
+        private void sendChunk() throws IOException {
+            synchronized (lock) {
+                acquire();
+                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(count));
+                writeHeader();
+                socket.getOutputStream().write(buffer, 0, HEADER_SIZE + count);
+                count = 0;
+            }
+        }
+
+        private void writeHeader() {
+            final byte[] hdr = buffer;
+            final int len = count;
             hdr[0] = (byte) ProtocolConstants.CHUNK_START;
             hdr[1] = (byte) (len >> 24);
             hdr[2] = (byte) (len >> 16);
             hdr[3] = (byte) (len >> 8);
             hdr[4] = (byte) (len >> 0);
-            synchronized (lock) {
-                if (sender != this || writeDone) {
-                    if (sender == this) sender = null;
-                    lock.notifyAll();
-                    throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+        }
+
+        // call with lock held
+        private void acquire() throws IOException {
+            while (sender != null && sender != this) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
                 }
-                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
-                out.write(hdr);
-                out.write(b, off, len);
             }
+            if (writeDone) {
+                throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
+            }
+            sender = this;
         }
 
         @Override
         public void close() throws IOException {
             synchronized (lock) {
-                if (sender != this) {
+                if (closed) {
                     return;
                 }
-                sender = null;
-                // wake up waiters
-                lock.notify();
-                if (writeDone) throw ProcessLogger.ROOT_LOGGER.writeChannelClosed();
-                if (readDone) {
-                    readExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            safeHandleFinished();
-                        }
-                    });
+                closed = true;
+                try {
+                    acquire();
+                    final int off;
+                    if (count > 0) {
+                        ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(count));
+                        writeHeader();
+                        off = 0;
+                    } else {
+                        off = HEADER_SIZE;
+                    }
+                    ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
+                    buffer[HEADER_SIZE + count] = (byte) ProtocolConstants.CHUNK_END;
+                    socket.getOutputStream().write(buffer, off, HEADER_SIZE + count + 1 - off);
+                    if (readDone) {
+                        readExecutor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                safeHandleFinished();
+                            }
+                        });
+                    }
+                } finally {
+                    buffer = null;
+                    if (sender == this) {
+                        sender = null;
+                    }
+                    if (openMessages > 0) {
+                        openMessages--;
+                    }
+                    // wake up waiters
+                    lock.notifyAll();
                 }
-                ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
-                out.write(ProtocolConstants.CHUNK_END);
             }
         }
 
@@ -382,7 +440,7 @@ final class ConnectionImpl implements Connection {
         protected void finalize() throws Throwable {
             super.finalize();
             synchronized (lock) {
-                if (sender == this) {
+                if (! closed && ! writeDone) {
                     ProcessLogger.PROTOCOL_CONNECTION_LOGGER.leakedMessageOutputStream();
                     close();
                 }
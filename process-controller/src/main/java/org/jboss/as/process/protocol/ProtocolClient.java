@@ -78,6 +78,7 @@ public final class ProtocolClient {
         }
         if (bindAddress != null) socket.bind(bindAddress);
         if (readTimeout != 0) socket.setSoTimeout(readTimeout);
+        socket.setTcpNoDelay(true);
         socket.connect(serverAddress, connectTimeout);
         thread.setName("Read thread for " + serverAddress);
         thread.start();
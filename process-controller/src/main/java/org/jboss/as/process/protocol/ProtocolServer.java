@@ -81,6 +81,8 @@ public final class ProtocolServer {
                             boolean ok = false;
                             try {
                                 socket.setSoTimeout(readTimeout);
+                                // messages are written in one go, so there is nothing to gain from delaying them
+                                socket.setTcpNoDelay(true);
                                 ok = true;
                             } finally {
                                 if (! ok) {
@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.process.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the framing of messages by {@link ConnectionImpl}.
+ */
+public final class ConnectionImplTest {
+
+    private ExecutorService executor;
+    private Socket client;
+    private Socket server;
+
+    @Before
+    public void connect() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            client = new Socket();
+            client.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()));
+            server = serverSocket.accept();
+        }
+    }
+
+    @After
+    public void close() {
+        StreamUtils.safeClose(client);
+        StreamUtils.safeClose(server);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testWireFormat() throws Exception {
+        final ConnectionImpl connection = new ConnectionImpl(client, MessageHandler.NULL, executor, null);
+        try (OutputStream os = connection.writeMessage()) {
+            os.write(1);
+            os.write(new byte[] { 2, 3 });
+        }
+        // An empty message is only the end marker
+        connection.writeMessage().close();
+        final byte[] expected = new byte[] { (byte) ProtocolConstants.CHUNK_START, 0, 0, 0, 3, 1, 2, 3, (byte) ProtocolConstants.CHUNK_END, (byte) ProtocolConstants.CHUNK_END };
+        final byte[] received = new byte[expected.length];
+        StreamUtils.readFully(server.getInputStream(), received, 0, received.length);
+        assertArrayEquals(expected, received);
+    }
+
+    @Test
+    public void testConcurrentMessages() throws Exception {
+        final int threads = 4;
+        final int messages = 50;
+        final Map<String, byte[]> received = new ConcurrentHashMap<>();
+        final CountDownLatch done = new CountDownLatch(threads * messages);
+        final MessageHandler handler = new MessageHandler() {
+            @Override
+            public void handleMessage(Connection connection, InputStream dataStream) throws IOException {
+                final String name = StreamUtils.readUTFZBytes(dataStream);
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                StreamUtils.copyStream(dataStream, bytes);
+                received.put(name, bytes.toByteArray());
+                done.countDown();
+            }
+
+            @Override
+            public void handleShutdown(Connection connection) throws IOException {
+            }
+
+            @Override
+            public void handleFailure(Connection connection, IOException e) throws IOException {
+            }
+
+            @Override
+            public void handleFinished(Connection connection) throws IOException {
+            }
+        };
+        final ConnectionImpl reader = new ConnectionImpl(server, handler, executor, null);
+        executor.execute(reader.getReadTask());
+
+        final ConnectionImpl writer = new ConnectionImpl(client, MessageHandler.NULL, executor, null);
+        final Future<?>[] futures = new Future<?>[threads];
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            futures[i] = executor.submit(() -> {
+                for (int j = 0; j < messages; j++) {
+                    try (OutputStream os = writer.writeMessage()) {
+                        StreamUtils.writeUTFZBytes(os, thread + "-" + j);
+                        // Every tenth message is too large to be buffered, and is sent in chunks
+                        os.write(content(thread, j));
+                    }
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(threads * messages, received.size());
+        for (int i = 0; i < threads; i++) {
+            for (int j = 0; j < messages; j++) {
+                assertArrayEquals(content(i, j), received.get(i + "-" + j));
+            }
+        }
+    }
+
+    private static byte[] content(int thread, int message) {
+        final byte[] content = new byte[message % 10 == 0 ? 200000 + message : 100 * message + thread];
+        Arrays.fill(content, (byte) (thread * 31 + message));
+        return content;
+    }
+}
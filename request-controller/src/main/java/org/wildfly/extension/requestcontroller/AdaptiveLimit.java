@@ -0,0 +1,194 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A request limit that adapts to the measured request latency, so that requests are rejected before queuing in the
+ * server makes the latency of all requests collapse.
+ * <p/>
+ * Requests are measured in windows of {@link #WINDOW_MILLIS} milliseconds. As a request can complete on a different
+ * thread than the one that began it, individual requests are not timed. Instead every start subtracts the current
+ * time from a sum and every completion adds it, so that the sum plus the current time for each active request is the
+ * total time spent in requests so far. Over a window this is the integral of the number of active requests, which by
+ * Little's law divided by the number of completed requests gives their average latency.
+ * <p/>
+ * At the end of each window the limit is adjusted by the ratio between a long term average of the latency and the
+ * latency of the window: while the latency stays close to its long term average the limit grows by half its square
+ * root, and as the latency rises because requests queue for resources the limit shrinks, by at most a quarter per
+ * window. The limit does not grow while less than half of it is used, as the latency then says nothing about a
+ * higher limit.
+ * <p/>
+ * The latency of every window is also recorded in a histogram, so that the spread of the latency over time can be
+ * reported along with its averages.
+ */
+final class AdaptiveLimit {
+
+    static final long WINDOW_MILLIS = 1000;
+    static final int INITIAL_LIMIT = 20;
+
+    private static final long WINDOW_MICROS = TimeUnit.MILLISECONDS.toMicros(WINDOW_MILLIS);
+    /** Windows with fewer completed requests don't give a meaningful latency */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    /** How much the latency may exceed its long term average before the limit shrinks */
+    private static final double TOLERANCE = 1.5;
+    private static final double BASELINE_SMOOTHING = 0.05;
+    private static final double LIMIT_SMOOTHING = 0.5;
+
+    private final long origin = System.nanoTime();
+    private final LongAdder completed = new LongAdder();
+    /** The completion times minus the start times, in microseconds since the origin */
+    private final LongAdder requestTime = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong();
+    /** The latencies of the windows that had enough samples, in microseconds */
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private volatile int maxLimit;
+    private volatile int limit;
+    /** The average latency in microseconds of the last window that had enough samples */
+    private volatile double latency;
+    /** The long term average of the latency in microseconds */
+    private volatile double baselineLatency;
+
+    /**
+     * @param maxLimit The maximum the limit can grow to, or a value less than 1 if there is none
+     */
+    AdaptiveLimit(int maxLimit) {
+        setMaxLimit(maxLimit);
+        this.limit = Math.min(INITIAL_LIMIT, this.maxLimit);
+    }
+
+    /**
+     * @param maxLimit The maximum the limit can grow to, or a value less than 1 if there is none
+     */
+    void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit > 0 ? maxLimit : Integer.MAX_VALUE;
+        if (limit > this.maxLimit) {
+            limit = this.maxLimit;
+        }
+    }
+
+    /**
+     * @return The current limit
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The average latency of the requests completed in the last measured window, in microseconds
+     */
+    long getLatency() {
+        return (long) latency;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100
+     * @return The latency in microseconds that the given percentage of the measured windows did not exceed, or 0 if
+     * no window has been measured yet
+     */
+    long getLatencyAtPercentile(double percentile) {
+        return latencies.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * @return The long term average latency of the requests, in microseconds
+     */
+    long getBaselineLatency() {
+        return (long) baselineLatency;
+    }
+
+    /**
+     * Records the start of a request. Every start must be followed by exactly one call to {@link #requestComplete(int)}.
+     */
+    void requestStarted() {
+        requestTime.add(-now());
+    }
+
+    /**
+     * Records the completion of a request.
+     *
+     * @param active The number of requests that are still active
+     * @return <code>true</code> if the limit has been raised
+     */
+    boolean requestComplete(int active) {
+        final long now = now();
+        requestTime.add(now);
+        completed.increment();
+        final long start = windowStart.get();
+        if (now - start >= WINDOW_MICROS && windowStart.compareAndSet(start, now)) {
+            return endWindow(now - start, now, active);
+        }
+        return false;
+    }
+
+    private boolean endWindow(long duration, long now, int active) {
+        // Neither read is atomic with the updates above, but a request that ends up in the next window doesn't matter.
+        // Subtracting the total keeps the sum close to zero, so it never overflows
+        final long count = completed.sumThenReset();
+        final long total = requestTime.sum() + active * now;
+        requestTime.add(-total);
+        if (count < MIN_WINDOW_SAMPLES || total <= 0) {
+            return false;
+        }
+        final double averageActive = (double) total / duration;
+        final double sample = (double) total / count;
+        latency = sample;
+        latencies.record((long) sample);
+
+        double baseline = baselineLatency;
+        if (baseline == 0) {
+            baseline = sample;
+        } else {
+            baseline = baseline * (1 - BASELINE_SMOOTHING) + sample * BASELINE_SMOOTHING;
+            // If the latency has been well below the baseline for a while, e.g. after a load spike, the baseline
+            // would otherwise take a long time to come down, and let the limit grow while the latency rises again
+            if (baseline > sample * 2) {
+                baseline *= 0.95;
+            }
+        }
+        baselineLatency = baseline;
+
+        final int current = limit;
+        final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baseline / sample));
+        double target = current * gradient + Math.sqrt(current);
+        if (averageActive < current / 2.0) {
+            target = Math.min(target, current);
+        }
+        final double smoothed = current * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        long rounded = Math.round(smoothed);
+        if (target > current && rounded == current) {
+            rounded++;
+        }
+        final int newLimit = (int) Math.max(1, Math.min(maxLimit, rounded));
+        limit = newLimit;
+        return newLimit > current;
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - origin);
+    }
+}
@@ -28,7 +28,25 @@ package org.wildfly.extension.requestcontroller;
  * @author Stuart Douglas
  */
 interface Constants {
+    String ADAPTIVE_LIMIT = "adaptive-limit";
+    String AVERAGE_REQUEST_TIME = "average-request-time";
+    String BASELINE_REQUEST_TIME = "baseline-request-time";
+    String COMPLETED_REQUESTS = "completed-requests";
+    String CONTROL_POINT = "control-point";
+    String CONTROL_POINTS = "control-points";
+    String DEPLOYMENT = "deployment";
+    String EFFECTIVE_MAX_REQUESTS = "effective-max-requests";
+    String ENTRY_POINT = "entry-point";
+    String MAX_REQUEST_TIME = "max-request-time";
     String MAX_REQUESTS = "max-requests";
+    String PAUSED = "paused";
+    String REJECTED_REQUESTS = "rejected-requests";
+    String REQUEST_TIME_P50 = "request-time-p50";
+    String REQUEST_TIME_P90 = "request-time-p90";
+    String REQUEST_TIME_P99 = "request-time-p99";
     String ACTIVE_REQUESTS = "active-requests";
+    String QUEUED_REQUESTS = "queued-requests";
+    String TOTAL_QUEUED_REQUESTS = "total-queued-requests";
+    String TOTAL_QUEUE_WAIT_TIME = "total-queue-wait-time";
     String TRACK_INDIVIDUAL_ENDPOINTS = "track-individual-endpoints";
 }
@@ -21,11 +21,16 @@
  */
 package org.wildfly.extension.requestcontroller;
 
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.suspend.ServerActivityCallback;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A representation of an entry point into the application server, represented as both a deployment
@@ -42,7 +47,6 @@ import java.util.concurrent.Executor;
  */
 public class ControlPoint {
 
-    private static final AtomicIntegerFieldUpdater<ControlPoint> activeRequestCountUpdater = AtomicIntegerFieldUpdater.newUpdater(ControlPoint.class, "activeRequestCount");
     private static final AtomicReferenceFieldUpdater<ControlPoint, ServerActivityCallback> listenerUpdater = AtomicReferenceFieldUpdater.newUpdater(ControlPoint.class, ServerActivityCallback.class, "listener");
 
     private final RequestController controller;
@@ -51,10 +55,9 @@ public class ControlPoint {
     private final boolean trackIndividualControlPoints;
 
     /**
-     * The number of active requests that are using this entry point
+     * The number of active requests that are using this entry point. This only needs to be exact while paused.
      */
-    @SuppressWarnings("unused")
-    private volatile int activeRequestCount = 0;
+    private final RequestCounter activeRequestCount = new RequestCounter(true);
 
     /**
      * If this entry point is paused
@@ -64,6 +67,40 @@ public class ControlPoint {
     @SuppressWarnings("unused")
     private volatile ServerActivityCallback listener = null;
 
+    /**
+     * The tasks queued via this entry point, see {@link RequestController#queueTask}
+     */
+    final Queue<RequestController.QueuedTask> queuedTasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * If this entry point is in the request controller's queue of entry points with queued tasks
+     */
+    final AtomicBoolean hasQueuedTasks = new AtomicBoolean();
+
+    private final LongAdder startedRequestCount = new LongAdder();
+    private final LongAdder completedRequestCount = new LongAdder();
+    private final LongAdder rejectedRequestCount = new LongAdder();
+    private final LongAdder totalQueuedRequestCount = new LongAdder();
+
+    /**
+     * As a request can complete on a different thread than the one that began it, the average is not taken from
+     * individual timings. Instead every start subtracts the current time, in microseconds since the origin, and every
+     * completion adds it, which by Little's law gives the average time of all requests.
+     */
+    private final long origin = System.nanoTime();
+    private final LongAdder requestTime = new LongAdder();
+
+    /**
+     * The time of the requests that completed on the thread that began them
+     */
+    private final LatencyHistogram requestTimes = new LatencyHistogram();
+
+    /**
+     * The start time of the request last begun on each thread, or 0 once it has been recorded. The slot is reused,
+     * so completing a request allocates nothing. A request completed on another thread is not recorded.
+     */
+    private final ThreadLocal<long[]> requestStart = ThreadLocal.withInitial(() -> new long[1]);
+
     /**
      * The number of services that are using this entry point.
      * This is a deployment time measurement, not a runtime one
@@ -97,8 +134,9 @@ public class ControlPoint {
             throw ServerLogger.ROOT_LOGGER.serverAlreadyPaused();
         }
         this.paused = true;
+        activeRequestCount.setStriped(false);
         listenerUpdater.set(this, requestCountListener);
-        if (activeRequestCountUpdater.get(this) == 0) {
+        if (activeRequestCount.get() == 0) {
             if (listenerUpdater.compareAndSet(this, requestCountListener, null)) {
                 requestCountListener.done();
             }
@@ -110,6 +148,7 @@ public class ControlPoint {
      */
     public void resume() {
         this.paused = false;
+        activeRequestCount.setStriped(true);
         ServerActivityCallback listener = listenerUpdater.get(this);
         if (listener != null) {
             listenerUpdater.compareAndSet(this, listener, null);
@@ -126,14 +165,19 @@ public class ControlPoint {
      */
     public RunResult beginRequest() throws Exception {
         if (paused) {
+            rejectedRequestCount.increment();
             return RunResult.REJECTED;
         }
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            increaseRequestCount();
         }
         RunResult runResult = controller.beginRequest(false);
         if (runResult == RunResult.REJECTED) {
             decreaseRequestCount();
+            rejectedRequestCount.increment();
+        } else {
+            requestStarted();
+            requestStart.get()[0] = System.nanoTime();
         }
         return runResult;
     }
@@ -151,9 +195,15 @@ public class ControlPoint {
      */
     public RunResult forceBeginRequest() throws Exception {
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            increaseRequestCount();
+        }
+        RunResult runResult = controller.beginRequest(true);
+        if (runResult == RunResult.REJECTED) {
+            rejectedRequestCount.increment();
+        } else {
+            requestStarted();
         }
-        return controller.beginRequest(true);
+        return runResult;
     }
 
     /**
@@ -161,8 +211,10 @@ public class ControlPoint {
      */
     void beginExistingRequest() {
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            increaseRequestCount();
         }
+        requestStarted();
+        requestStart.get()[0] = System.nanoTime();
     }
 
     /**
@@ -171,14 +223,44 @@ public class ControlPoint {
      * This cannot be done automatically when the handleRequest method completes, as some
      */
     public void requestComplete() {
+        final long[] start = requestStart.get();
+        if (start[0] != 0) {
+            requestTimes.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start[0]));
+            start[0] = 0;
+        }
         decreaseRequestCount();
+        requestTime.add(now());
+        completedRequestCount.increment();
         controller.requestComplete();
     }
 
+    private void requestStarted() {
+        requestTime.add(-now());
+        startedRequestCount.increment();
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - origin);
+    }
+
+    private void increaseRequestCount() {
+        if (activeRequestCount.isStriped()) {
+            activeRequestCount.incrementStriped();
+            if (activeRequestCount.isStriped()) {
+                return;
+            }
+            //we were paused after checking, so count the request where the pause will see it
+            activeRequestCount.incrementExact();
+            decreaseRequestCount();
+        } else {
+            activeRequestCount.incrementExact();
+        }
+    }
+
     private void decreaseRequestCount() {
         if (trackIndividualControlPoints) {
-            int result = activeRequestCountUpdater.decrementAndGet(this);
-            if (paused && result == 0) {
+            activeRequestCount.decrement();
+            if (paused && activeRequestCount.get() == 0) {
                 ServerActivityCallback listener = listenerUpdater.get(this);
                 if (listener != null) {
                     if (listenerUpdater.compareAndSet(this, listener, null)) {
@@ -209,6 +291,7 @@ public class ControlPoint {
      * @param rejectOnSuspend If the task should be rejected if the container is suspended, if this happens the timeout task is invoked immediately
      */
     public void queueTask(Runnable task, Executor taskExecutor, long timeout, Runnable timeoutTask, boolean rejectOnSuspend) {
+        totalQueuedRequestCount.increment();
         controller.queueTask(this, task, taskExecutor, timeout, timeoutTask, rejectOnSuspend, false);
     }
 
@@ -225,6 +308,7 @@ public class ControlPoint {
      * @param taskExecutor    The executor to run the task in
      */
     public void forceQueueTask(Runnable task, Executor taskExecutor) {
+        totalQueuedRequestCount.increment();
         controller.queueTask(this, task, taskExecutor, -1, null, false, true);
     }
 
@@ -233,7 +317,46 @@ public class ControlPoint {
     }
 
     public int getActiveRequestCount() {
-        return activeRequestCountUpdater.get(this);
+        return activeRequestCount.get();
+    }
+
+    /**
+     * @return The total number of requests that have completed through this entry point
+     */
+    public long getCompletedRequestCount() {
+        return completedRequestCount.sum();
+    }
+
+    /**
+     * @return The total number of requests that have been rejected by this entry point
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.sum();
+    }
+
+    /**
+     * @return The total number of tasks that have been queued through this entry point
+     */
+    public long getTotalQueuedRequestCount() {
+        return totalQueuedRequestCount.sum();
+    }
+
+    /**
+     * @return The average time in microseconds of the requests through this entry point. Requests that are still
+     *         active are counted as if they completed now
+     */
+    public long getAverageRequestTime() {
+        // Neither read is atomic with the updates, which only skews the average while requests start or complete
+        final long completed = completedRequestCount.sum();
+        final long active = Math.max(0, startedRequestCount.sum() - completed);
+        if (completed + active == 0) {
+            return 0;
+        }
+        return Math.max(0, (requestTime.sum() + active * now()) / (completed + active));
+    }
+
+    LatencyHistogram getRequestTimes() {
+        return requestTimes;
     }
 
     synchronized int increaseReferenceCount() {
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.extension.requestcontroller;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Read handler for the metrics of each control point
+ */
+class ControlPointMetricsReadHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ServiceController<?> service = context.getServiceRegistry(false).getService(RequestController.SERVICE_NAME);
+        final ModelNode result = context.getResult().setEmptyList();
+        if(service != null) {
+            RequestController requestController = (RequestController) service.getService().getValue();
+            for (ControlPoint controlPoint : requestController.getControlPoints()) {
+                final LatencyHistogram requestTimes = controlPoint.getRequestTimes();
+                final ModelNode node = new ModelNode();
+                node.get(Constants.DEPLOYMENT).set(controlPoint.getDeployment());
+                node.get(Constants.ENTRY_POINT).set(controlPoint.getEntryPoint());
+                node.get(Constants.PAUSED).set(controlPoint.isPaused());
+                node.get(Constants.ACTIVE_REQUESTS).set(controlPoint.getActiveRequestCount());
+                node.get(Constants.COMPLETED_REQUESTS).set(controlPoint.getCompletedRequestCount());
+                node.get(Constants.REJECTED_REQUESTS).set(controlPoint.getRejectedRequestCount());
+                node.get(Constants.TOTAL_QUEUED_REQUESTS).set(controlPoint.getTotalQueuedRequestCount());
+                node.get(Constants.AVERAGE_REQUEST_TIME).set(controlPoint.getAverageRequestTime());
+                node.get(Constants.REQUEST_TIME_P50).set(requestTimes.getValueAtPercentile(50));
+                node.get(Constants.REQUEST_TIME_P90).set(requestTimes.getValueAtPercentile(90));
+                node.get(Constants.REQUEST_TIME_P99).set(requestTimes.getValueAtPercentile(99));
+                node.get(Constants.MAX_REQUEST_TIME).set(requestTimes.getMax());
+                result.add(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Read handler for the metrics of the queued and rejected requests, and of the adaptive limit
+ */
+class QueueMetricsReadHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ServiceController<?> service = context.getServiceRegistry(false).getService(RequestController.SERVICE_NAME);
+        if(service != null) {
+            RequestController requestController = (RequestController) service.getService().getValue();
+            switch (operation.require(NAME).asString()) {
+                case Constants.QUEUED_REQUESTS:
+                    context.getResult().set(requestController.getQueuedRequestCount());
+                    break;
+                case Constants.TOTAL_QUEUED_REQUESTS:
+                    context.getResult().set(requestController.getTotalQueuedRequestCount());
+                    break;
+                case Constants.TOTAL_QUEUE_WAIT_TIME:
+                    context.getResult().set(requestController.getTotalQueueWaitTime());
+                    break;
+                case Constants.REJECTED_REQUESTS:
+                    context.getResult().set(requestController.getRejectedRequestCount());
+                    break;
+                case Constants.EFFECTIVE_MAX_REQUESTS:
+                    context.getResult().set(requestController.getEffectiveMaxRequestCount());
+                    break;
+                case Constants.AVERAGE_REQUEST_TIME:
+                    context.getResult().set(requestController.getAverageRequestTime());
+                    break;
+                case Constants.BASELINE_REQUEST_TIME:
+                    context.getResult().set(requestController.getBaselineRequestTime());
+                    break;
+                case Constants.REQUEST_TIME_P50:
+                    context.getResult().set(requestController.getRequestTimeAtPercentile(50));
+                    break;
+                case Constants.REQUEST_TIME_P90:
+                    context.getResult().set(requestController.getRequestTimeAtPercentile(90));
+                    break;
+                case Constants.REQUEST_TIME_P99:
+                    context.getResult().set(requestController.getRequestTimeAtPercentile(99));
+                    break;
+            }
+        } else {
+            context.getResult().set(-1);
+        }
+    }
+}
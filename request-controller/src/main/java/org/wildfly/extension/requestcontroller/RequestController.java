@@ -34,16 +34,15 @@ import org.jboss.msc.value.InjectedValue;
 import org.wildfly.extension.requestcontroller.logging.RequestControllerLogger;
 
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Queue;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
@@ -54,6 +53,10 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
  * 1) Graceful shutdown - When the number of active request reaches zero then the container can be gracefully shut down
  * 2) Request limiting - This allows the total number of requests that are active to be limited.
  * <p/>
+ * While the controller is neither paused nor limited, requests are admitted without contention between threads, as
+ * the active requests only need to be counted exactly once a limit is set or the controller is paused. See
+ * {@link RequestCounter}.
+ * <p/>
  *
  * @author Stuart Douglas
  */
@@ -62,12 +65,11 @@ public class RequestController implements Service<RequestController>, ServerActi
     @Deprecated
     public static final ServiceName SERVICE_NAME = RequestControllerRootDefinition.REQUEST_CONTROLLER_CAPABILITY.getCapabilityServiceName();
 
-    private static final AtomicIntegerFieldUpdater<RequestController> activeRequestCountUpdater = AtomicIntegerFieldUpdater.newUpdater(RequestController.class, "activeRequestCount");
     private static final AtomicReferenceFieldUpdater<RequestController, ServerActivityCallback> listenerUpdater = AtomicReferenceFieldUpdater.newUpdater(RequestController.class, ServerActivityCallback.class, "listener");
 
     private volatile int maxRequestCount = -1;
 
-    private volatile int activeRequestCount = 0;
+    private final RequestCounter activeRequestCount = new RequestCounter(true);
 
     private volatile boolean paused = false;
 
@@ -80,8 +82,22 @@ public class RequestController implements Service<RequestController>, ServerActi
 
     private final boolean trackIndividualControlPoints;
 
+    /**
+     * The limit on active requests if it adapts to their latency, in which case {@link #maxRequestCount} is the
+     * highest it can grow to
+     */
+    private final AdaptiveLimit adaptiveLimit;
+
+    private final LongAdder rejectedRequestCount = new LongAdder();
+
     public RequestController(boolean trackIndividualControlPoints) {
+        this(trackIndividualControlPoints, false);
+    }
+
+    public RequestController(boolean trackIndividualControlPoints, boolean adaptiveLimit) {
         this.trackIndividualControlPoints = trackIndividualControlPoints;
+        this.adaptiveLimit = adaptiveLimit ? new AdaptiveLimit(maxRequestCount) : null;
+        updateStriping();
     }
 
     @Override
@@ -89,9 +105,17 @@ public class RequestController implements Service<RequestController>, ServerActi
         listener.done();
     }
 
-    private Timer timer;
+    private TimeoutWheel timeoutWheel;
 
-    private final Deque<QueuedTask> taskQueue = new LinkedBlockingDeque<>();
+    /**
+     * The control points that have queued tasks. Each one holds its own queue, and they are served round robin
+     * so that queued requests from one entry point cannot starve those of another, e.g. a health check.
+     */
+    private final Queue<ControlPoint> queuedControlPoints = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queuedRequestCount = new AtomicInteger();
+    private final LongAdder totalQueuedRequestCount = new LongAdder();
+    private final LongAdder totalQueueWaitTime = new LongAdder();
 
     /**
      * Pause the controller. All existing requests will have a chance to finish, and once all requests are
@@ -103,9 +127,10 @@ public class RequestController implements Service<RequestController>, ServerActi
      */
     public synchronized void suspended(ServerActivityCallback requestCountListener) {
         this.paused = true;
+        updateStriping();
         listenerUpdater.set(this, requestCountListener);
 
-        if (activeRequestCountUpdater.get(this) == 0) {
+        if (activeRequestCount.get() == 0) {
             if (listenerUpdater.compareAndSet(this, requestCountListener, null)) {
                 requestCountListener.done();
             }
@@ -118,13 +143,12 @@ public class RequestController implements Service<RequestController>, ServerActi
     @Override
     public synchronized void resume() {
         this.paused = false;
+        updateStriping();
         ServerActivityCallback listener = listenerUpdater.get(this);
         if (listener != null) {
             listenerUpdater.compareAndSet(this, listener, null);
         }
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
-            runQueuedTask(false);
-        }
+        runQueuedTasks();
     }
 
     /**
@@ -205,21 +229,37 @@ public class RequestController implements Service<RequestController>, ServerActi
         for (ControlPoint controlPoint : entryPoints.values()) {
             eps.add(new RequestControllerState.EntryPointState(controlPoint.getDeployment(), controlPoint.getEntryPoint(), controlPoint.isPaused(), controlPoint.getActiveRequestCount()));
         }
-        return new RequestControllerState(paused, activeRequestCount, maxRequestCount, eps);
+        return new RequestControllerState(paused, activeRequestCount.get(), getEffectiveMaxRequestCount(), eps);
+    }
+
+    /**
+     * @return The entry points that are currently in use
+     */
+    synchronized List<ControlPoint> getControlPoints() {
+        return new ArrayList<>(entryPoints.values());
     }
 
     RunResult beginRequest(boolean force) {
-        int maxRequests = maxRequestCount;
-        int active = activeRequestCountUpdater.get(this);
-        boolean success = false;
-        while ((maxRequests <= 0 || active < maxRequests) && (!paused || force)) {
-            if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
-                success = true;
-                break;
+        final RunResult result = admitRequest(force);
+        if (result == RunResult.REJECTED && (!paused || force)) {
+            rejectedRequestCount.increment();
+        }
+        return result;
+    }
+
+    private RunResult admitRequest(boolean force) {
+        if (activeRequestCount.isStriped()) {
+            activeRequestCount.incrementStriped();
+            if (activeRequestCount.isStriped()) {
+                return RunResult.RUN;
             }
-            active = activeRequestCountUpdater.get(this);
+            //we were paused or limited after checking, and the striped increment may have been missed
+            //so we give it back (notifying the listener if required) and go through the exact path instead
+            decrementRequestCount();
         }
+        boolean success = (!paused || force) && activeRequestCount.incrementExactIfBelow(getEffectiveMaxRequestCount());
         if (success) {
+            requestStarted();
             //re-check the paused state
             //this is necessary because there is a race between checking paused and updating active requests
             //if this happens we just call requestComplete(), as the listener can only be invoked once it does not
@@ -235,14 +275,34 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
     void requestComplete() {
+        final boolean limitRaised = requestFinished();
         runQueuedTask(true);
+        if (limitRaised) {
+            runQueuedTasks();
+        }
+    }
+
+    private void requestStarted() {
+        if (adaptiveLimit != null) {
+            adaptiveLimit.requestStarted();
+        }
+    }
+
+    /**
+     * Records the end of a request with the adaptive limit, if there is one. This does not release its permit.
+     *
+     * @return <code>true</code> if the limit has been raised
+     */
+    private boolean requestFinished() {
+        // The active count still includes the finished request
+        return adaptiveLimit != null && adaptiveLimit.requestComplete(activeRequestCount.get() - 1);
     }
 
     private void decrementRequestCount() {
 
-        int result = activeRequestCountUpdater.decrementAndGet(this);
+        activeRequestCount.decrement();
         if (paused) {
-            if (paused && result == 0) {
+            if (paused && activeRequestCount.get() == 0) {
                 ServerActivityCallback listener = listenerUpdater.get(this);
                 if (listener != null) {
                     if (listenerUpdater.compareAndSet(this, listener, null)) {
@@ -288,12 +348,21 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
     /**
-     * @return The maximum number of requests that can be active at a time
+     * @return The maximum number of requests that can be active at a time, or if the limit is adaptive the highest
+     * it can grow to
      */
     public int getMaxRequestCount() {
         return maxRequestCount;
     }
 
+    /**
+     * @return The maximum number of requests that can currently be active at a time, which is the adaptive limit if
+     * there is one
+     */
+    public int getEffectiveMaxRequestCount() {
+        return adaptiveLimit != null ? adaptiveLimit.getLimit() : maxRequestCount;
+    }
+
     /**
      * Sets the maximum number of requests that can be active at a time.
      * <p/>
@@ -304,13 +373,43 @@ public class RequestController implements Service<RequestController>, ServerActi
      */
     public void setMaxRequestCount(int maxRequestCount) {
         this.maxRequestCount = maxRequestCount;
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        if (adaptiveLimit != null) {
+            adaptiveLimit.setMaxLimit(maxRequestCount);
+        }
+        updateStriping();
+        runQueuedTasks();
+    }
+
+    /**
+     * @return <code>true</code> if the number of active requests is limited by their latency
+     */
+    public boolean isAdaptiveLimit() {
+        return adaptiveLimit != null;
+    }
+
+    /**
+     * Requests only need to be counted exactly if they are limited, or we need to know when the last one is done
+     */
+    private synchronized void updateStriping() {
+        activeRequestCount.setStriped(adaptiveLimit == null && maxRequestCount <= 0 && !paused);
+    }
+
+    /**
+     * Runs queued tasks for as long as the limit allows
+     */
+    private void runQueuedTasks() {
+        while (hasQueuedTasks() && isBelowLimit(activeRequestCount.get())) {
             if(!runQueuedTask(false)) {
                 break;
             }
         }
     }
 
+    private boolean isBelowLimit(int active) {
+        final int max = getEffectiveMaxRequestCount();
+        return max <= 0 || active < max;
+    }
+
     /**
      * @return <code>true</code> If the server is currently pause
      */
@@ -321,19 +420,17 @@ public class RequestController implements Service<RequestController>, ServerActi
     @Override
     public void start(StartContext startContext) throws StartException {
         shutdownControllerInjectedValue.getValue().registerActivity(this);
-        timer = new Timer();
+        timeoutWheel = new TimeoutWheel("Request controller timeout thread");
     }
 
     @Override
     public void stop(StopContext stopContext) {
         shutdownControllerInjectedValue.getValue().unRegisterActivity(this);
-        timer.cancel();
-        timer = null;
-        while (!taskQueue.isEmpty()) {
-            QueuedTask t = taskQueue.poll();
-            if(t != null) {
-                t.run();
-            }
+        timeoutWheel.stop();
+        timeoutWheel = null;
+        QueuedTask t;
+        while ((t = pollQueuedTask()) != null) {
+            t.run();
         }
     }
 
@@ -347,7 +444,60 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
     public int getActiveRequestCount() {
-        return activeRequestCount;
+        return activeRequestCount.get();
+    }
+
+    /**
+     * @return The number of tasks that are currently queued
+     */
+    public int getQueuedRequestCount() {
+        return queuedRequestCount.get();
+    }
+
+    /**
+     * @return The total number of tasks that have been queued
+     */
+    public long getTotalQueuedRequestCount() {
+        return totalQueuedRequestCount.sum();
+    }
+
+    /**
+     * @return The total time in milliseconds that tasks have spent queued, until they were either run or timed out
+     */
+    public long getTotalQueueWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalQueueWaitTime.sum());
+    }
+
+    /**
+     * @return The total number of requests that have been rejected because the limit was reached
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.sum();
+    }
+
+    /**
+     * @return The average latency in microseconds of the requests completed in the last measured window, or -1
+     * if the limit is not adaptive
+     */
+    public long getAverageRequestTime() {
+        return adaptiveLimit != null ? adaptiveLimit.getLatency() : -1;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100
+     * @return The average latency in microseconds that the given percentage of the windows measured by the adaptive
+     * limit did not exceed, or -1 if the limit is not adaptive
+     */
+    public long getRequestTimeAtPercentile(double percentile) {
+        return adaptiveLimit != null ? adaptiveLimit.getLatencyAtPercentile(percentile) : -1;
+    }
+
+    /**
+     * @return The long term average latency in microseconds the adaptive limit compares the latency to, or -1
+     * if the limit is not adaptive
+     */
+    public long getBaselineRequestTime() {
+        return adaptiveLimit != null ? adaptiveLimit.getBaselineLatency() : -1;
     }
 
     void queueTask(ControlPoint controlPoint, Runnable task, Executor taskExecutor, long timeout, Runnable timeoutTask, boolean rejectOnSuspend, boolean forceRun) {
@@ -358,11 +508,13 @@ public class RequestController implements Service<RequestController>, ServerActi
             }
         }
         QueuedTask queuedTask = new QueuedTask(taskExecutor, task, timeoutTask, controlPoint, forceRun);
-        taskQueue.add(queuedTask);
+        queuedRequestCount.incrementAndGet();
+        totalQueuedRequestCount.increment();
+        addQueuedTask(queuedTask);
         runQueuedTask(false);
         if(queuedTask.isQueued()) {
             if(timeout > 0) {
-                timer.schedule(queuedTask, timeout);
+                queuedTask.setTimeout(timeoutWheel.schedule(queuedTask, timeout));
             }
         }
     }
@@ -371,6 +523,8 @@ public class RequestController implements Service<RequestController>, ServerActi
      * Runs a queued task, if the queue is not already empty.
      *
      * Note that this will decrement the request count if there are no queued tasks to be run
+     * <p/>
+     * Tasks are taken from each control point with queued tasks in turn.
      *
      * @param hasPermit If the caller has already called {@link #beginRequest(boolean force)}
      */
@@ -378,16 +532,18 @@ public class RequestController implements Service<RequestController>, ServerActi
         QueuedTask task = null;
         if(!hasPermit) {
             if(!paused) {
-                if (beginRequest(false) == RunResult.REJECTED) {
+                if (admitRequest(false) == RunResult.REJECTED) {
                     return false;
                 }
-                task = taskQueue.poll();
+                task = pollQueuedTask();
             } else {
                 //the container is suspended, but we still need to run any force queued tasks
                 List<QueuedTask> storage = new ArrayList<>();
-                while (task == null && !taskQueue.isEmpty()) {
-                    QueuedTask tmp = taskQueue.poll();
-                    if(tmp.forceRun) {
+                while (task == null) {
+                    QueuedTask tmp = pollQueuedTask();
+                    if(tmp == null) {
+                        break;
+                    } else if(tmp.forceRun) {
                         task = tmp;
                     } else {
                         storage.add(tmp);
@@ -395,25 +551,75 @@ public class RequestController implements Service<RequestController>, ServerActi
                 }
                 //this screws the order somewhat, but the container is suspending anyway, and the order
                 //was never guarenteed. if we push them back onto the front we will need to just go through them again
-                taskQueue.addAll(storage);
+                for (QueuedTask queued : storage) {
+                    addQueuedTask(queued);
+                }
                 if(task == null) {
                     return false;
                 }
                 //after all that we are at the max request limit anyway
-                if (beginRequest(true) == RunResult.REJECTED) {
+                if (admitRequest(true) == RunResult.REJECTED) {
                     return false;
                 }
             }
+        } else if(!paused && isBelowLimit(activeRequestCount.get() - 1)) {
+            //a request has completed, so its permit goes to the next queued task rather than back to the pool,
+            //otherwise queued tasks would only be run when the next task is queued
+            task = pollQueuedTask();
+            if(task != null) {
+                requestStarted();
+            }
         }
-        if(task != null) {
-            if(!task.runRequest()) {
-                decrementRequestCount();
+        final boolean found = task != null;
+        //the permit has been started with the adaptive limit if we admitted it here, or handed it to a task
+        final boolean started = !hasPermit || found;
+        while (task != null) {
+            if (task.runRequest()) {
+                return true;
+            }
+            //the task has already timed out, so the permit goes to the next one
+            task = paused ? null : pollQueuedTask();
+        }
+        if (started) {
+            requestFinished();
+        }
+        decrementRequestCount();
+        return found;
+    }
+
+    private void addQueuedTask(QueuedTask task) {
+        final ControlPoint controlPoint = task.controlPoint;
+        controlPoint.queuedTasks.add(task);
+        if (controlPoint.hasQueuedTasks.compareAndSet(false, true)) {
+            queuedControlPoints.add(controlPoint);
+        }
+    }
+
+    /**
+     * Takes the next task from the control point whose turn it is, and moves that control point to the back of the line.
+     */
+    private QueuedTask pollQueuedTask() {
+        ControlPoint controlPoint;
+        while ((controlPoint = queuedControlPoints.poll()) != null) {
+            final QueuedTask task = controlPoint.queuedTasks.poll();
+            if (!controlPoint.queuedTasks.isEmpty()) {
+                queuedControlPoints.add(controlPoint);
+            } else {
+                controlPoint.hasQueuedTasks.set(false);
+                //a task may have been added before we cleared the flag
+                if (!controlPoint.queuedTasks.isEmpty() && controlPoint.hasQueuedTasks.compareAndSet(false, true)) {
+                    queuedControlPoints.add(controlPoint);
+                }
+            }
+            if (task != null) {
+                return task;
             }
-            return true;
-        } else {
-            decrementRequestCount();
-            return false;
         }
+        return null;
+    }
+
+    private boolean hasQueuedTasks() {
+        return !queuedControlPoints.isEmpty();
     }
 
     private static final class ControlPointIdentifier {
@@ -451,13 +657,15 @@ public class RequestController implements Service<RequestController>, ServerActi
     }
 
 
-    private static final class QueuedTask extends TimerTask {
+    final class QueuedTask implements Runnable {
 
         private final Executor executor;
         private final Runnable task;
         private final Runnable cancelTask;
         private final ControlPoint controlPoint;
         private final boolean forceRun;
+        private final long queuedAt = System.nanoTime();
+        private volatile TimeoutWheel.Timeout timeout;
 
         //0 == queued
         //1 == run
@@ -475,6 +683,7 @@ public class RequestController implements Service<RequestController>, ServerActi
         @Override
         public void run() {
             if(state.compareAndSet(0, 2)) {
+                dequeued();
                 if(cancelTask != null) {
                     try {
                         executor.execute(cancelTask);
@@ -488,12 +697,16 @@ public class RequestController implements Service<RequestController>, ServerActi
 
         public boolean runRequest() {
             if(state.compareAndSet(0, 1)) {
-                cancel();
+                dequeued();
+                TimeoutWheel.Timeout timeout = this.timeout;
+                if (timeout != null) {
+                    timeout.cancel();
+                }
                 executor.execute(new Runnable() {
                     @Override
                     public void run() {
+                        controlPoint.beginExistingRequest();
                         try {
-                            controlPoint.beginExistingRequest();
                             task.run();
                         } finally {
                             controlPoint.requestComplete();
@@ -509,6 +722,19 @@ public class RequestController implements Service<RequestController>, ServerActi
         boolean isQueued() {
             return state.get() == 0;
         }
+
+        void setTimeout(TimeoutWheel.Timeout timeout) {
+            this.timeout = timeout;
+            if (!isQueued()) {
+                //we were run while the timeout was being scheduled
+                timeout.cancel();
+            }
+        }
+
+        private void dequeued() {
+            queuedRequestCount.decrementAndGet();
+            totalQueueWaitTime.add(System.nanoTime() - queuedAt);
+        }
     }
 
 }
@@ -35,6 +35,11 @@ import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.operations.common.GenericSubsystemDescribeHandler;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.dmr.ModelNode;
 
 
 /**
@@ -46,6 +51,9 @@ public class RequestControllerExtension implements Extension {
     protected static final PathElement SUBSYSTEM_PATH = PathElement.pathElement(SUBSYSTEM, SUBSYSTEM_NAME);
     private static final String RESOURCE_NAME = RequestControllerExtension.class.getPackage().getName() + ".LocalDescriptions";
 
+    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(1, 2);
+    private static final ModelVersion MODEL_VERSION_1_1 = ModelVersion.create(1, 1);
+
     public static StandardResourceDescriptionResolver getResolver(final String... keyPrefix) {
         StringBuilder prefix = new StringBuilder(SUBSYSTEM_NAME);
         for (String kp : keyPrefix) {
@@ -57,14 +65,33 @@ public class RequestControllerExtension implements Extension {
     @Override
     public void initializeParsers(ExtensionParsingContext context) {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.REQUEST_CONTROLLER_1_0.getUriString(), RequestControllerSubsystemParser_1_0.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.REQUEST_CONTROLLER_1_1.getUriString(), RequestControllerSubsystemParser_1_1.INSTANCE);
     }
 
     @Override
     public void initialize(ExtensionContext context) {
-        final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, ModelVersion.create(1, 1));
+        final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, CURRENT_MODEL_VERSION);
         final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(new RequestControllerRootDefinition(context.isRuntimeOnlyRegistrationValid()));
         registration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE, false);
-        subsystem.registerXMLElementWriter(RequestControllerSubsystemParser_1_0.INSTANCE);
+        subsystem.registerXMLElementWriter(RequestControllerSubsystemParser_1_1.INSTANCE);
+
+        if (context.isRegisterTransformers()) {
+            registerTransformers_1_1(subsystem);
+        }
+    }
+
+    /**
+     * Hosts running model version 1.1 don't know the adaptive limit, so it can only be used if it is disabled.
+     *
+     * @param subsystemRegistration the subsystem registration
+     */
+    private static void registerTransformers_1_1(final SubsystemRegistration subsystemRegistration) {
+        ResourceTransformationDescriptionBuilder builder = ResourceTransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), RequestControllerRootDefinition.ADAPTIVE_LIMIT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, RequestControllerRootDefinition.ADAPTIVE_LIMIT)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), subsystemRegistration, MODEL_VERSION_1_1);
     }
 
 
@@ -30,12 +30,15 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -59,9 +62,83 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition ADAPTIVE_LIMIT = SimpleAttributeDefinitionBuilder.create(Constants.ADAPTIVE_LIMIT, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .setRestartAllServices()
+            .build();
+
     public static final SimpleAttributeDefinition ACTIVE_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.ACTIVE_REQUESTS, ModelType.INT, true)
             .setStorageRuntime()
             .build();
+
+    static final SimpleAttributeDefinition QUEUED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.QUEUED_REQUESTS, ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition TOTAL_QUEUED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.TOTAL_QUEUED_REQUESTS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition TOTAL_QUEUE_WAIT_TIME = SimpleAttributeDefinitionBuilder.create(Constants.TOTAL_QUEUE_WAIT_TIME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition REJECTED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.REJECTED_REQUESTS, ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition EFFECTIVE_MAX_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.EFFECTIVE_MAX_REQUESTS, ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition AVERAGE_REQUEST_TIME = SimpleAttributeDefinitionBuilder.create(Constants.AVERAGE_REQUEST_TIME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition BASELINE_REQUEST_TIME = SimpleAttributeDefinitionBuilder.create(Constants.BASELINE_REQUEST_TIME, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition REQUEST_TIME_P50 = SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P50, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition REQUEST_TIME_P90 = SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P90, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition REQUEST_TIME_P99 = SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P99, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final ObjectTypeAttributeDefinition CONTROL_POINT = ObjectTypeAttributeDefinition.Builder.of(Constants.CONTROL_POINT,
+            SimpleAttributeDefinitionBuilder.create(Constants.DEPLOYMENT, ModelType.STRING).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.ENTRY_POINT, ModelType.STRING).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.PAUSED, ModelType.BOOLEAN).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.ACTIVE_REQUESTS, ModelType.INT).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.COMPLETED_REQUESTS, ModelType.LONG).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.REJECTED_REQUESTS, ModelType.LONG).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.TOTAL_QUEUED_REQUESTS, ModelType.LONG).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.AVERAGE_REQUEST_TIME, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P50, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P90, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.REQUEST_TIME_P99, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+            SimpleAttributeDefinitionBuilder.create(Constants.MAX_REQUEST_TIME, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build()
+    )
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition CONTROL_POINTS = ObjectListAttributeDefinition.Builder.of(Constants.CONTROL_POINTS, CONTROL_POINT)
+            .setStorageRuntime()
+            .build();
+
     public static final RequestControllerRootDefinition INSTANCE = new RequestControllerRootDefinition(true);
 
     static final RuntimeCapability<Void> REQUEST_CONTROLLER_CAPABILITY =
@@ -85,9 +162,9 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
 
     private static Collection<AttributeDefinition> getAttributeDefinitions(boolean registerRuntimeOnly) {
         if(registerRuntimeOnly) {
-            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ACTIVE_REQUESTS});
+            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ADAPTIVE_LIMIT, ACTIVE_REQUESTS});
         } else {
-            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS});
+            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ADAPTIVE_LIMIT});
         }
     }
 
@@ -101,8 +178,21 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
         MaxRequestsWriteHandler handler = new MaxRequestsWriteHandler(MAX_REQUESTS);
         resourceRegistration.registerReadWriteAttribute(MAX_REQUESTS, null, handler);
         resourceRegistration.registerReadWriteAttribute(TRACK_INDIVIDUAL_ENDPOINTS, null, new ReloadRequiredWriteAttributeHandler(TRACK_INDIVIDUAL_ENDPOINTS));
+        resourceRegistration.registerReadWriteAttribute(ADAPTIVE_LIMIT, null, new ReloadRequiredWriteAttributeHandler(ADAPTIVE_LIMIT));
         if(registerRuntimeOnly) {
             resourceRegistration.registerMetric(ACTIVE_REQUESTS, new ActiveRequestsReadHandler());
+            QueueMetricsReadHandler queueMetricsHandler = new QueueMetricsReadHandler();
+            resourceRegistration.registerMetric(QUEUED_REQUESTS, queueMetricsHandler);
+            resourceRegistration.registerMetric(TOTAL_QUEUED_REQUESTS, queueMetricsHandler);
+            resourceRegistration.registerMetric(TOTAL_QUEUE_WAIT_TIME, queueMetricsHandler);
+            resourceRegistration.registerMetric(REJECTED_REQUESTS, queueMetricsHandler);
+            resourceRegistration.registerMetric(EFFECTIVE_MAX_REQUESTS, queueMetricsHandler);
+            resourceRegistration.registerMetric(AVERAGE_REQUEST_TIME, queueMetricsHandler);
+            resourceRegistration.registerMetric(BASELINE_REQUEST_TIME, queueMetricsHandler);
+            resourceRegistration.registerMetric(REQUEST_TIME_P50, queueMetricsHandler);
+            resourceRegistration.registerMetric(REQUEST_TIME_P90, queueMetricsHandler);
+            resourceRegistration.registerMetric(REQUEST_TIME_P99, queueMetricsHandler);
+            resourceRegistration.registerMetric(CONTROL_POINTS, new ControlPointMetricsReadHandler());
         }
     }
 
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A count of active requests, which can be incremented without contention while its owner does not need an exact
+ * view of it.
+ * <p/>
+ * While the counter is striped, requests are counted in a cell chosen by the thread that begins them, so threads
+ * on different cores don't contend on a single value. Otherwise they are counted in a single exact value, which
+ * allows them to be admitted against a limit. A request is always completed by decrementing the cell of the
+ * completing thread if it is not zero, and otherwise the exact value, so the cells never go negative and only
+ * decrease while the counter is not striped. As {@link #get()} reads the cells before the exact value it can
+ * therefore never see a lower count than there actually is once the owner stops striping, e.g. because it was
+ * paused or a request limit was set, which is what the limit and the detection of the last request rely on.
+ */
+final class RequestCounter {
+
+    private static final AtomicIntegerFieldUpdater<RequestCounter> exactUpdater = AtomicIntegerFieldUpdater.newUpdater(RequestCounter.class, "exact");
+
+    /** The number of ints between two cells, so each cell has a cache line of its own */
+    private static final int PADDING = 16;
+    private static final int STRIPES;
+
+    static {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() * 2 && stripes < 256) {
+            stripes <<= 1;
+        }
+        STRIPES = stripes;
+    }
+
+    private final AtomicIntegerArray cells = new AtomicIntegerArray((STRIPES + 1) * PADDING);
+
+    @SuppressWarnings("unused")
+    private volatile int exact = 0;
+
+    private volatile boolean striped;
+
+    RequestCounter(boolean striped) {
+        this.striped = striped;
+    }
+
+    /**
+     * @return <code>true</code> if requests may currently be counted using {@link #incrementStriped()}
+     */
+    boolean isStriped() {
+        return striped;
+    }
+
+    /**
+     * Sets whether requests may be counted using {@link #incrementStriped()}. Callers that increment the striped
+     * count must check {@link #isStriped()} again afterwards, and complete the request if it has changed.
+     */
+    void setStriped(boolean striped) {
+        this.striped = striped;
+    }
+
+    void incrementStriped() {
+        cells.incrementAndGet(cellIndex());
+    }
+
+    void incrementExact() {
+        exactUpdater.incrementAndGet(this);
+    }
+
+    /**
+     * Increments the exact count if the total count is below the given limit.
+     *
+     * @param max The limit, or a value less than 1 if there is none
+     * @return <code>true</code> if the count was incremented
+     */
+    boolean incrementExactIfBelow(int max) {
+        if (max <= 0) {
+            incrementExact();
+            return true;
+        }
+        final int cellCount = sumCells();
+        int current = exact;
+        while (current + cellCount < max) {
+            if (exactUpdater.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+            current = exact;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the completion of a request.
+     */
+    void decrement() {
+        final int index = cellIndex();
+        int current = cells.get(index);
+        while (current > 0) {
+            if (cells.compareAndSet(index, current, current - 1)) {
+                return;
+            }
+            current = cells.get(index);
+        }
+        exactUpdater.decrementAndGet(this);
+    }
+
+    /**
+     * @return The number of active requests
+     */
+    int get() {
+        final int cellCount = sumCells();
+        return cellCount + exact;
+    }
+
+    private int sumCells() {
+        int result = 0;
+        for (int i = 1; i <= STRIPES; i++) {
+            result += cells.get(i * PADDING);
+        }
+        return result;
+    }
+
+    private static int cellIndex() {
+        // Fixed per thread, so a request that completes on the thread that began it uses the same cell
+        return (((int) Thread.currentThread().getId() & (STRIPES - 1)) + 1) * PADDING;
+    }
+}
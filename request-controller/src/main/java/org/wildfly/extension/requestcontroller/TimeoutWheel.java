@@ -0,0 +1,258 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.wildfly.extension.requestcontroller.logging.RequestControllerLogger;
+
+/**
+ * A hashed wheel of timeouts, used to time out queued tasks.
+ * <p/>
+ * Scheduling and cancelling a timeout only add it to a lock free queue, so both are O(1) and don't contend with
+ * the thread running the timeouts. That thread advances the wheel every {@link #TICK_MILLIS} milliseconds, and
+ * only looks at the timeouts in the bucket for the current tick. Timeouts can therefore run up to one tick late.
+ * Cancelled timeouts are removed from their bucket on the next tick, so a task that was run before it timed out
+ * is not kept alive until its timeout would have expired. While no timeouts are pending the thread is parked, and
+ * it is unparked when the next one is scheduled.
+ */
+final class TimeoutWheel {
+
+    static final long TICK_MILLIS = 10;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    private static final int BUCKETS = 512;
+
+    private final Bucket[] wheel = new Bucket[BUCKETS];
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final long startTime = System.nanoTime();
+    private final Thread thread;
+    private volatile boolean stopped;
+    /** Whether the wheel thread may be parked, waiting for a timeout to be scheduled */
+    private volatile boolean idle;
+    /** The next tick to process. Only accessed by the wheel thread */
+    private long tick;
+    /** The number of timeouts in the wheel. Only accessed by the wheel thread */
+    private int pending;
+
+    TimeoutWheel(String threadName) {
+        for (int i = 0; i < BUCKETS; i++) {
+            wheel[i] = new Bucket();
+        }
+        thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Schedules a task to run after the given timeout, unless the returned timeout is cancelled first.
+     *
+     * @param task The task to run on the wheel thread. It should be short, as it delays all the other timeouts
+     * @param timeout The timeout in milliseconds
+     * @return The timeout
+     */
+    Timeout schedule(Runnable task, long timeout) {
+        final Timeout result = new Timeout(this, task, System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(timeout));
+        scheduled.add(result);
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+        return result;
+    }
+
+    /**
+     * Stops the wheel thread. Timeouts that have not expired yet will never run.
+     */
+    void stop() {
+        stopped = true;
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (!stopped) {
+            if (pending == 0) {
+                removeCancelled();
+                idle = true;
+                if (scheduled.isEmpty() && !stopped) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                // The wheel is empty, so there is no need to go through the ticks we slept through
+                tick = Math.max(tick, (System.nanoTime() - startTime) / TICK_NANOS);
+            }
+            final long deadline = TICK_NANOS * (tick + 1);
+            final long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    // stopped, or a spurious interrupt in which case we just carry on
+                }
+                continue;
+            }
+            removeCancelled();
+            addScheduled();
+            pending -= wheel[(int) (tick & (BUCKETS - 1))].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                pending--;
+            }
+        }
+    }
+
+    private void addScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) {
+                continue;
+            }
+            final long expiryTick = timeout.deadline / TICK_NANOS;
+            timeout.rounds = (expiryTick - tick) / BUCKETS;
+            // Timeouts that should already have expired go into the current bucket
+            wheel[(int) (Math.max(expiryTick, tick) & (BUCKETS - 1))].add(timeout);
+            pending++;
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    static final class Timeout {
+
+        private static final AtomicIntegerFieldUpdater<Timeout> stateUpdater = AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimeoutWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+
+        @SuppressWarnings("unused")
+        private volatile int state = PENDING;
+
+        // The following are only accessed by the wheel thread
+        private long rounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(TimeoutWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, so the task will not be run if it has not been already
+         */
+        void cancel() {
+            if (stateUpdater.compareAndSet(this, PENDING, CANCELLED)) {
+                wheel.cancelled.add(this);
+            }
+        }
+
+        private void expire() {
+            if (stateUpdater.compareAndSet(this, PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    RequestControllerLogger.ROOT_LOGGER.failedToCancelTask(task, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts that expire in the same tick of some round. Only accessed by the
+     * wheel thread.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Runs the timeouts in this bucket that expire by the given deadline.
+         *
+         * @return the number of timeouts removed from the bucket
+         */
+        int expire(long deadline) {
+            int expired = 0;
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.rounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                    expired++;
+                } else {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -67,6 +67,11 @@ public class RequestControllerSubsystemTestCase extends AbstractSubsystemBaseTes
         return readResource("request-controller-1.0.xml");
     }
 
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        super.compareXml(configId, original.replace(Namespace.REQUEST_CONTROLLER_1_0.getUriString(), Namespace.CURRENT.getUriString()), marshalled);
+    }
+
     @Test
     public void testRuntime() throws Exception {
         KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
@@ -78,8 +83,13 @@ public class RequestControllerSubsystemTestCase extends AbstractSubsystemBaseTes
         ServiceController<RequestController> workerServiceController = (ServiceController<RequestController>) mainServices.getContainer().getService(RequestController.SERVICE_NAME);
         workerServiceController.setMode(ServiceController.Mode.ACTIVE);
         workerServiceController.awaitValue();
-        RequestController controller = workerServiceController.getService().getValue();
+        checkRuntime(workerServiceController.getService().getValue());
+    }
+
+    protected void checkRuntime(RequestController controller) {
         Assert.assertEquals(100, controller.getMaxRequestCount());
+        Assert.assertFalse(controller.isAdaptiveLimit());
+        Assert.assertEquals(100, controller.getEffectiveMaxRequestCount());
     }
 
     @Override
@@ -0,0 +1,390 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the admission of requests by {@link RequestController} and {@link ControlPoint} without a running server.
+ */
+public class RequestControllerUnitTestCase {
+
+    @Test
+    public void testMaxRequests() throws Exception {
+        RequestController controller = new RequestController(true);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        // Requests counted while unlimited must be included once a limit is set
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controller.setMaxRequestCount(3);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Assert.assertEquals(3, controller.getActiveRequestCount());
+        Assert.assertEquals(3, controlPoint.getActiveRequestCount());
+
+        controlPoint.requestComplete();
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+
+        controller.setMaxRequestCount(-1);
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(4, controller.getActiveRequestCount());
+        for (int i = 0; i < 4; i++) {
+            controlPoint.requestComplete();
+        }
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        Assert.assertEquals(0, controlPoint.getActiveRequestCount());
+    }
+
+    @Test
+    public void testSuspendWaitsForActiveRequests() throws Exception {
+        RequestController controller = new RequestController(true);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+
+        AtomicInteger done = new AtomicInteger();
+        controller.suspended(done::incrementAndGet);
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.RUN, controlPoint.forceBeginRequest());
+
+        controlPoint.requestComplete();
+        controlPoint.requestComplete();
+        Assert.assertEquals(0, done.get());
+        controlPoint.requestComplete();
+        Assert.assertEquals(1, done.get());
+
+        controller.resume();
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+        Assert.assertEquals(1, done.get());
+    }
+
+    @Test
+    public void testPauseDeployment() throws Exception {
+        RequestController controller = new RequestController(true);
+        ControlPoint paused = controller.getControlPoint("paused.war", "web");
+        ControlPoint running = controller.getControlPoint("running.war", "web");
+
+        Assert.assertEquals(RunResult.RUN, paused.beginRequest());
+        AtomicInteger done = new AtomicInteger();
+        controller.pauseDeployment("paused.war", done::incrementAndGet);
+        Assert.assertEquals(RunResult.REJECTED, paused.beginRequest());
+        Assert.assertEquals(RunResult.RUN, running.beginRequest());
+        Assert.assertEquals(0, done.get());
+
+        paused.requestComplete();
+        Assert.assertEquals(1, done.get());
+        running.requestComplete();
+
+        controller.resumeDeployment("paused.war");
+        Assert.assertEquals(RunResult.RUN, paused.beginRequest());
+        paused.requestComplete();
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+    }
+
+    @Test
+    public void testConcurrentRequestsAcrossSuspend() throws Exception {
+        final RequestController controller = new RequestController(true);
+        final ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10000; j++) {
+                        if (controlPoint.beginRequest() == RunResult.RUN) {
+                            controlPoint.requestComplete();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            final CountDownLatch suspended = new CountDownLatch(1);
+            controller.suspended(suspended::countDown);
+            Assert.assertTrue(suspended.await(10, TimeUnit.SECONDS));
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            Assert.assertEquals(0, controller.getActiveRequestCount());
+            Assert.assertEquals(0, controlPoint.getActiveRequestCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testQueuedTasksAreServedRoundRobin() throws Exception {
+        RequestController controller = new RequestController(true);
+        controller.setMaxRequestCount(1);
+        ControlPoint busy = controller.getControlPoint("busy.war", "web");
+        ControlPoint health = controller.getControlPoint("health.war", "web");
+        Assert.assertEquals(RunResult.RUN, busy.beginRequest());
+
+        List<String> ran = new ArrayList<>();
+        List<Runnable> executed = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String name = "busy" + i;
+            busy.queueTask(() -> ran.add(name), executed::add, -1, null, false);
+        }
+        health.queueTask(() -> ran.add("health"), executed::add, -1, null, false);
+        Assert.assertEquals(4, controller.getQueuedRequestCount());
+        Assert.assertTrue(executed.isEmpty());
+
+        // Each completed request hands its permit to the next queued task
+        busy.requestComplete();
+        while (!executed.isEmpty()) {
+            executed.remove(0).run();
+        }
+        Assert.assertEquals(Arrays.asList("busy1", "health", "busy2", "busy3"), ran);
+        Assert.assertEquals(0, controller.getQueuedRequestCount());
+        Assert.assertEquals(4, controller.getTotalQueuedRequestCount());
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+    }
+
+    @Test
+    public void testPermitSkipsTimedOutTasks() throws Exception {
+        RequestController controller = new RequestController(true);
+        controller.setMaxRequestCount(1);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+
+        List<String> ran = new ArrayList<>();
+        AtomicInteger timedOut = new AtomicInteger();
+        controlPoint.queueTask(() -> ran.add("expired"), Runnable::run, -1, timedOut::incrementAndGet, false);
+        controlPoint.queueTask(() -> ran.add("queued"), Runnable::run, -1, null, false);
+        // Time out the first task without removing it from the queue, as the timeout wheel does
+        controlPoint.queuedTasks.peek().run();
+        Assert.assertEquals(1, timedOut.get());
+
+        controlPoint.requestComplete();
+        Assert.assertEquals(Arrays.asList("queued"), ran);
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+    }
+
+    @Test
+    public void testAdaptiveLimit() throws Exception {
+        RequestController controller = new RequestController(true, true);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+        Assert.assertEquals(AdaptiveLimit.INITIAL_LIMIT, controller.getEffectiveMaxRequestCount());
+
+        for (int i = 0; i < AdaptiveLimit.INITIAL_LIMIT; i++) {
+            Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        }
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Assert.assertEquals(1, controller.getRejectedRequestCount());
+
+        // The configured maximum caps the adaptive limit
+        controller.setMaxRequestCount(5);
+        Assert.assertEquals(5, controller.getEffectiveMaxRequestCount());
+        for (int i = 0; i < AdaptiveLimit.INITIAL_LIMIT; i++) {
+            controlPoint.requestComplete();
+        }
+        Assert.assertEquals(0, controller.getActiveRequestCount());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        }
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Assert.assertEquals(2, controller.getRejectedRequestCount());
+
+        // No interval has been measured yet, and a limit that is not adaptive measures none
+        Assert.assertEquals(0, controller.getRequestTimeAtPercentile(99));
+        Assert.assertEquals(-1, new RequestController(true).getRequestTimeAtPercentile(99));
+    }
+
+    @Test
+    public void testControlPointMetrics() throws Exception {
+        RequestController controller = new RequestController(true);
+        controller.setMaxRequestCount(1);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Assert.assertEquals(RunResult.REJECTED, controlPoint.beginRequest());
+        Thread.sleep(5);
+        controlPoint.requestComplete();
+        controlPoint.queueTask(() -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Runnable::run, -1, null, false);
+
+        Assert.assertEquals(2, controlPoint.getCompletedRequestCount());
+        Assert.assertEquals(1, controlPoint.getRejectedRequestCount());
+        Assert.assertEquals(1, controlPoint.getTotalQueuedRequestCount());
+        Assert.assertTrue(controlPoint.getAverageRequestTime() >= TimeUnit.MILLISECONDS.toMicros(5));
+        // Both the request begun directly and the queued task completed on the thread that began them
+        LatencyHistogram requestTimes = controlPoint.getRequestTimes();
+        Assert.assertEquals(2, requestTimes.getCount());
+        Assert.assertTrue(requestTimes.getValueAtPercentile(50) >= TimeUnit.MILLISECONDS.toMicros(5));
+    }
+
+    @Test
+    public void testAverageRequestTimeWithActiveRequests() throws Exception {
+        RequestController controller = new RequestController(true);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        final long begin = System.nanoTime();
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        }
+        Thread.sleep(10);
+        // No request has been running for longer than the test, however many are still active
+        final long average = controlPoint.getAverageRequestTime();
+        Assert.assertTrue(average <= TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+        Assert.assertTrue(average >= TimeUnit.MILLISECONDS.toMicros(10) / 2);
+        for (int i = 0; i < 100; ++i) {
+            controlPoint.requestComplete();
+        }
+    }
+
+    @Test
+    public void testRequestCompletedOnAnotherThread() throws Exception {
+        RequestController controller = new RequestController(true);
+        ControlPoint controlPoint = controller.getControlPoint("test.war", "web");
+
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        Thread.sleep(10);
+        Thread thread = new Thread(controlPoint::requestComplete);
+        thread.start();
+        thread.join();
+        Assert.assertEquals(1, controlPoint.getCompletedRequestCount());
+        long average = controlPoint.getAverageRequestTime();
+        Assert.assertTrue(average >= TimeUnit.MILLISECONDS.toMicros(10));
+
+        // The request completed on another thread is not in the histogram, and a short request on the first
+        // thread is not timed from the start left behind by the earlier one
+        Assert.assertEquals(0, controlPoint.getRequestTimes().getCount());
+        Assert.assertEquals(RunResult.RUN, controlPoint.beginRequest());
+        controlPoint.requestComplete();
+        Assert.assertEquals(2, controlPoint.getCompletedRequestCount());
+        Assert.assertTrue(controlPoint.getAverageRequestTime() < average);
+        Assert.assertEquals(1, controlPoint.getRequestTimes().getCount());
+        Assert.assertTrue(controlPoint.getRequestTimes().getMax() < TimeUnit.MILLISECONDS.toMicros(10));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(500, histogram.getMean());
+        Assert.assertEquals(1000, histogram.getMax());
+        assertWithinPrecision(500, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(900, histogram.getValueAtPercentile(90));
+        assertWithinPrecision(990, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(1000, histogram.getValueAtPercentile(100));
+
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.highestValueInBucket(index) >= value);
+            Assert.assertTrue(index == 0 || LatencyHistogram.highestValueInBucket(index - 1) < value);
+        }
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assert.assertTrue("Expected " + expected + " but was " + actual, actual >= expected && actual <= expected + expected / 16);
+    }
+
+    @Test
+    public void testTimeoutWheel() throws Exception {
+        TimeoutWheel wheel = new TimeoutWheel("test timeout thread");
+        try {
+            CountDownLatch expired = new CountDownLatch(2);
+            AtomicBoolean cancelledRan = new AtomicBoolean();
+            wheel.schedule(expired::countDown, 20);
+            TimeoutWheel.Timeout cancelled = wheel.schedule(() -> cancelledRan.set(true), 20);
+            // Longer than a full turn of the wheel
+            wheel.schedule(expired::countDown, 5500);
+            cancelled.cancel();
+            Assert.assertTrue(expired.await(10, TimeUnit.SECONDS));
+            Assert.assertFalse(cancelledRan.get());
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    public void testIdleTimeoutWheelIsParked() throws Exception {
+        TimeoutWheel wheel = new TimeoutWheel("idle timeout thread");
+        try {
+            Thread thread = findThread("idle timeout thread");
+            awaitState(thread, Thread.State.WAITING);
+
+            CountDownLatch expired = new CountDownLatch(1);
+            wheel.schedule(expired::countDown, 20);
+            Assert.assertTrue(expired.await(10, TimeUnit.SECONDS));
+            awaitState(thread, Thread.State.WAITING);
+
+            // A cancelled timeout does not keep the thread busy either
+            wheel.schedule(expired::countDown, 60000).cancel();
+            awaitState(thread, Thread.State.WAITING);
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    private static Thread findThread(String name) {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName())) {
+                return thread;
+            }
+        }
+        throw new AssertionError("No thread named " + name);
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        // The thread only waits without a timeout when it is parked, sleeping between ticks is TIMED_WAITING
+        while (thread.getState() != state) {
+            Assert.assertTrue("Thread is " + thread.getState(), System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -58,14 +58,30 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
     private final ThreadFactoryResolver threadFactoryResolver;
     private final HandoffExecutorResolver handoffExecutorResolver;
     private final ServiceName serviceNameBase;
+    private final boolean statistics;
 
     public BoundedQueueThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
                                      HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase) {
-        super(blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES);
+        this(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolAdd(boolean blocking, ThreadFactoryResolver threadFactoryResolver,
+                              HandoffExecutorResolver handoffExecutorResolver, ServiceName serviceNameBase, boolean statistics) {
+        super(getAttributes(blocking, statistics));
         this.blocking = blocking;
         this.threadFactoryResolver = threadFactoryResolver;
         this.handoffExecutorResolver = handoffExecutorResolver;
         this.serviceNameBase = serviceNameBase;
+        this.statistics = statistics;
+    }
+
+    static AttributeDefinition[] getAttributes(boolean blocking, boolean statistics) {
+        final AttributeDefinition[] attributes = blocking ? BLOCKING_ATTRIBUTES : NON_BLOCKING_ATTRIBUTES;
+        return statistics ? ThreadPoolManagementUtils.withStatisticsEnabled(attributes) : attributes;
+    }
+
+    static AttributeDefinition[] getRuntimeAttributes(boolean statistics) {
+        return statistics ? ThreadPoolManagementUtils.withStatisticsEnabled(RW_ATTRIBUTES) : RW_ATTRIBUTES;
     }
 
     @Override
@@ -80,6 +96,9 @@ public class BoundedQueueThreadPoolAdd extends AbstractAddStepHandler {
                 blocking,
                 params.getKeepAliveTime(),
                 params.isAllowCoreTimeout());
+        if (statistics) {
+            service.setStatisticsEnabled(PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
+        }
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
@@ -44,7 +44,11 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             PoolAttributeDefinitions.QUEUE_SIZE);
 
     public BoundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase, boolean statistics) {
+        super(statistics ? withStatisticsMetrics(METRICS) : METRICS, serviceNameBase);
     }
 
     @Override
@@ -59,7 +63,7 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             context.getResult().set(bounded.getRejectedCount());
         } else if (attributeName.equals(CommonAttributes.QUEUE_SIZE)) {
             context.getResult().set(bounded.getQueueSize());
-        } else {
+        } else if (!setStatisticsResult(context, attributeName, bounded.getStatistics())) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedBoundedQueueThreadPoolMetric(attributeName);
         }
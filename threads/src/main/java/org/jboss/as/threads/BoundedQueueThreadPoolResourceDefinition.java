@@ -49,10 +49,10 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     public static BoundedQueueThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly) {
         if (blocking) {
             return create(CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly, true);
         } else {
             return create(CommonAttributes.BOUNDED_QUEUE_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly, true);
         }
     }
 
@@ -68,11 +68,21 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     public static BoundedQueueThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
                                                                   HandoffExecutorResolver handoffExecutorResolver,
                                                                   ServiceName poolNameBase, boolean registerRuntimeOnly) {
+        return create(type, threadFactoryResolver, handoffExecutorResolver, poolNameBase, registerRuntimeOnly, false);
+    }
+
+    /**
+     * @param statistics whether the pool has the statistics-enabled attribute and the metrics it enables, which only
+     *                   the thread pools of the threads subsystem itself have
+     */
+    private static BoundedQueueThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
+                                                                   HandoffExecutorResolver handoffExecutorResolver,
+                                                                   ServiceName poolNameBase, boolean registerRuntimeOnly, boolean statistics) {
         final boolean blocking = handoffExecutorResolver == null;
         final String resolverPrefix = blocking ? CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL : CommonAttributes.BOUNDED_QUEUE_THREAD_POOL;
-        final BoundedQueueThreadPoolAdd addHandler = new BoundedQueueThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, poolNameBase);
+        final BoundedQueueThreadPoolAdd addHandler = new BoundedQueueThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, poolNameBase, statistics);
         final OperationStepHandler removeHandler = new BoundedQueueThreadPoolRemove(addHandler);
-        return new BoundedQueueThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, poolNameBase, resolverPrefix, addHandler, removeHandler);
+        return new BoundedQueueThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, poolNameBase, resolverPrefix, addHandler, removeHandler, statistics);
     }
 
     /**
@@ -82,13 +92,19 @@ public class BoundedQueueThreadPoolResourceDefinition extends PersistentResource
     protected BoundedQueueThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
                                                      String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
                                                      OperationStepHandler removeHandler) {
+        this(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler, false);
+    }
+
+    private BoundedQueueThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
+                                                     String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
+                                                     OperationStepHandler removeHandler, boolean statistics) {
         super(PathElement.pathElement(type),
                 new ThreadPoolResourceDescriptionResolver(resolverPrefix, ThreadsExtension.RESOURCE_NAME, ThreadsExtension.class.getClassLoader()),
                 addHandler, removeHandler);
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.blocking = blocking;
-        metricsHandler = new BoundedQueueThreadPoolMetricsHandler(serviceNameBase);
-        writeHandler = new BoundedQueueThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
+        metricsHandler = new BoundedQueueThreadPoolMetricsHandler(serviceNameBase, statistics);
+        writeHandler = new BoundedQueueThreadPoolWriteAttributeHandler(blocking, serviceNameBase, statistics);
     }
 
 
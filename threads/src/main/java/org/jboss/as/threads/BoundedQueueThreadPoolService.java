@@ -51,6 +51,7 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
     private int coreThreads;
     private int maxThreads;
     private TimeSpec keepAlive;
+    private boolean statisticsEnabled;
     private boolean allowCoreTimeout;
 
     public BoundedQueueThreadPoolService(int coreThreads, int maxThreads, int queueLength, boolean blocking, TimeSpec keepAlive, boolean allowCoreTimeout) {
@@ -68,6 +69,7 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         QueueExecutor queueExecutor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking, handoffExecutorValue.getOptionalValue());
         queueExecutor.setAllowCoreThreadTimeout(allowCoreTimeout);
         executor = new ManagedQueueExecutorService(queueExecutor);
+        executor.getStatistics().setEnabled(statisticsEnabled);
     }
 
     public void stop(final StopContext context) {
@@ -154,4 +156,17 @@ public class BoundedQueueThreadPoolService implements Service<ManagedQueueExecut
         final ManagedQueueExecutorService executor = getValue();
         return executor.getQueueSize();
     }
+
+    public synchronized void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        final ManagedQueueExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.getStatistics().setEnabled(statisticsEnabled);
+        }
+    }
+
+    TaskStatistics getStatistics() {
+        final ManagedQueueExecutorService executor = getValue();
+        return executor.getStatistics();
+    }
 }
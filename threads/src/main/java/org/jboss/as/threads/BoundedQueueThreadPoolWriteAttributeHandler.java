@@ -43,8 +43,11 @@ public class BoundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteAtt
     private final ServiceName serviceNameBase;
 
     public  BoundedQueueThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase) {
-        super(blocking ? BoundedQueueThreadPoolAdd.BLOCKING_ATTRIBUTES : BoundedQueueThreadPoolAdd.NON_BLOCKING_ATTRIBUTES,
-                BoundedQueueThreadPoolAdd.RW_ATTRIBUTES);
+        this(blocking, serviceNameBase, false);
+    }
+
+    BoundedQueueThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase, boolean statistics) {
+        super(BoundedQueueThreadPoolAdd.getAttributes(blocking, statistics), BoundedQueueThreadPoolAdd.getRuntimeAttributes(statistics));
         this.serviceNameBase = serviceNameBase;
     }
 
@@ -78,6 +81,8 @@ public class BoundedQueueThreadPoolWriteAttributeHandler extends ThreadsWriteAtt
             }
         } else if (PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.getName().equals(attributeName)) {
             pool.setAllowCoreTimeout(PoolAttributeDefinitions.ALLOW_CORE_TIMEOUT.resolveModelAttribute(context, model).asBoolean());
+        } else if (PoolAttributeDefinitions.STATISTICS_ENABLED.getName().equals(attributeName)) {
+            pool.setStatisticsEnabled(PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
         } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedBoundedQueueThreadPoolAttribute(attributeName);
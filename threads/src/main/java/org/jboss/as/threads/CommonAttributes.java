@@ -27,6 +27,8 @@ package org.jboss.as.threads;
 public interface CommonAttributes {
     String ACTIVE_COUNT = "active-count";
     String ALLOW_CORE_TIMEOUT = "allow-core-timeout";
+    String AVERAGE = "average";
+    String ASYNC_MODE = "async-mode";
     String BLOCKING = "blocking";
     String BLOCKING_BOUNDED_QUEUE_THREAD_POOL = "blocking-bounded-queue-thread-pool";
     String BLOCKING_QUEUELESS_THREAD_POOL = "blocking-queueless-thread-pool";
@@ -35,27 +37,45 @@ public interface CommonAttributes {
     String CORE_THREADS = "core-threads";
     String COUNT = "count";
     String CURRENT_THREAD_COUNT = "current-thread-count";
+    String FORK_JOIN_EXECUTOR = "fork-join-executor";
     String PER_CPU = "per-cpu";
     String HANDOFF_EXECUTOR = "handoff-executor";
     String LARGEST_THREAD_COUNT = "largest-thread-count";
+    String MAX = "max";
     String NAME = "name";
+    String P50 = "p50";
+    String P90 = "p90";
+    String P99 = "p99";
     String GROUP_NAME = "group-name";
     String KEEPALIVE_TIME = "keepalive-time";
+    String MAX_CONCURRENCY = "max-concurrency";
     String MAX_THREADS = "max-threads";
+    String PARALLELISM = "parallelism";
     String PRIORITY = "priority";
     String PROPERTIES = "properties";
     String PROPERTY = "property";
     String QUEUELESS_THREAD_POOL = "queueless-thread-pool";
     String QUEUE_LENGTH = "queue-length";
     String QUEUE_SIZE = "queue-size";
+    String QUEUED_SUBMISSION_COUNT = "queued-submission-count";
+    String QUEUED_TASK_COUNT = "queued-task-count";
     String REJECTED_COUNT = "rejected-count";
+    String SATURATED_REJECTED_COUNT = "saturated-rejected-count";
     String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    String SHUTDOWN_REJECTED_COUNT = "shutdown-rejected-count";
+    String STATISTICS_ENABLED = "statistics-enabled";
+    String STEAL_COUNT = "steal-count";
     String TASK_COUNT = "task-count";
+    String TASK_RUN_TIME = "task-run-time";
+    String TASK_WAIT_TIME = "task-wait-time";
     String THREADS = "threads";
     String TIME = "time";
     String THREAD_FACTORY = "thread-factory";
     String THREAD_NAME_PATTERN = "thread-name-pattern";
+    String THROUGHPUT = "throughput";
     String UNBOUNDED_QUEUE_THREAD_POOL = "unbounded-queue-thread-pool";
     String UNIT = "unit";
     String VALUE = "value";
+    String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
+    String VIRTUAL_THREADS = "virtual-threads";
 }
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.PersistentResourceDefinition;
+import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link org.jboss.as.controller.ResourceDefinition} for a fork join executor resource.
+ * <p/>
+ * Other subsystems can use a fork join executor through its capability, whose service provides a {@link ForkJoinPool}.
+ */
+public class ForkJoinExecutorResourceDefinition extends PersistentResourceDefinition {
+
+    public static final String FORK_JOIN_EXECUTOR_CAPABILITY_NAME = "org.wildfly.threads.fork-join-executor";
+    public static final RuntimeCapability<Void> FORK_JOIN_EXECUTOR_CAPABILITY =
+            RuntimeCapability.Builder.of(FORK_JOIN_EXECUTOR_CAPABILITY_NAME, true, ForkJoinPool.class).build();
+
+    private final ForkJoinExecutorMetricsHandler metricsHandler;
+
+    private final boolean registerRuntimeOnly;
+
+    public static ForkJoinExecutorResourceDefinition create(boolean registerRuntimeOnly) {
+        ForkJoinExecutorAdd addHandler = new ForkJoinExecutorAdd(FORK_JOIN_EXECUTOR_CAPABILITY, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER);
+        return new ForkJoinExecutorResourceDefinition(addHandler, registerRuntimeOnly);
+    }
+
+    private ForkJoinExecutorResourceDefinition(ForkJoinExecutorAdd addHandler, boolean registerRuntimeOnly) {
+        super(PathElement.pathElement(CommonAttributes.FORK_JOIN_EXECUTOR),
+                new ThreadPoolResourceDescriptionResolver(CommonAttributes.FORK_JOIN_EXECUTOR, ThreadsExtension.RESOURCE_NAME,
+                        ThreadsExtension.class.getClassLoader()),
+                addHandler, new ForkJoinExecutorRemove(FORK_JOIN_EXECUTOR_CAPABILITY, addHandler));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+        this.metricsHandler = new ForkJoinExecutorMetricsHandler(addHandler.getServiceNameBase());
+    }
+
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerReadOnlyAttribute(PoolAttributeDefinitions.NAME, ReadResourceNameOperationStepHandler.INSTANCE);
+        // None of the attributes can be applied to a running pool, so they all require a reload
+        super.registerAttributes(resourceRegistration);
+        if (registerRuntimeOnly) {
+            metricsHandler.registerAttributes(resourceRegistration);
+        }
+    }
+
+    @Override
+    public void registerCapabilities(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerCapability(FORK_JOIN_EXECUTOR_CAPABILITY);
+    }
+
+    @Override
+    public Collection<AttributeDefinition> getAttributes() {
+        return Arrays.asList(ForkJoinExecutorAdd.ATTRIBUTES);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.msc.inject.Injector;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.msc.value.InjectedValue;
+
+/**
+ * Service responsible for creating, starting and stopping a work-stealing {@link ForkJoinPool}.
+ * <p/>
+ * A fork join pool needs threads of its own type, so the injected thread factory can't create them. Instead each
+ * worker thread takes its name, priority, daemon status and context class loader from an unstarted thread created
+ * by the thread factory. Worker threads are always in the thread group of the thread that created them.
+ */
+public class ForkJoinExecutorService implements Service<ManagedForkJoinPool> {
+
+    /** The highest parallelism {@link ForkJoinPool} supports */
+    static final int MAX_PARALLELISM = 0x7fff;
+
+    private static final Runnable NOOP = () -> { };
+
+    private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
+
+    private ManagedForkJoinPool executor;
+    private ManagedForkJoinPool stoppingExecutor;
+    private StopContext context;
+
+    private final int parallelism;
+    private final boolean asyncMode;
+
+    /**
+     * @param parallelism The number of worker threads the pool aims to keep active, or 0 for the number of processors
+     * @param asyncMode <code>true</code> to run tasks that are never joined in FIFO rather than LIFO order
+     */
+    public ForkJoinExecutorService(final int parallelism, final boolean asyncMode) {
+        this.parallelism = parallelism;
+        this.asyncMode = asyncMode;
+    }
+
+    public void start(final StartContext context) throws StartException {
+        final int parallelism = this.parallelism > 0 ? this.parallelism : Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors());
+        final ManagedForkJoinPool pool = new ManagedForkJoinPool(parallelism, new WorkerThreadFactory(threadFactoryValue.getValue()), asyncMode);
+        synchronized (this) {
+            executor = pool;
+        }
+    }
+
+    public void stop(final StopContext context) {
+        final ManagedForkJoinPool executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.context = context;
+            this.stoppingExecutor = executor;
+            this.executor = null;
+        }
+        context.asynchronous();
+        executor.internalShutdown();
+        // The pool terminates straight away if it has no worker threads, otherwise when the last one exits
+        if (executor.isTerminated()) {
+            terminated(executor);
+        }
+    }
+
+    private void terminated(final ForkJoinPool pool) {
+        final StopContext context;
+        synchronized (this) {
+            if (pool != stoppingExecutor) {
+                return;
+            }
+            context = this.context;
+            this.context = null;
+            this.stoppingExecutor = null;
+        }
+        if (context != null) {
+            context.complete();
+        }
+    }
+
+    public synchronized ManagedForkJoinPool getValue() throws IllegalStateException {
+        final ManagedForkJoinPool value = this.executor;
+        if (value == null) {
+            throw ThreadsLogger.ROOT_LOGGER.forkJoinExecutorUninitialized();
+        }
+        return value;
+    }
+
+    public Injector<ThreadFactory> getThreadFactoryInjector() {
+        return threadFactoryValue;
+    }
+
+    public int getActiveCount() {
+        return getValue().getActiveThreadCount();
+    }
+
+    public int getCurrentThreadCount() {
+        return getValue().getPoolSize();
+    }
+
+    public long getStealCount() {
+        return getValue().getStealCount();
+    }
+
+    public int getQueuedSubmissionCount() {
+        return getValue().getQueuedSubmissionCount();
+    }
+
+    public long getQueuedTaskCount() {
+        return getValue().getQueuedTaskCount();
+    }
+
+    private class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final ThreadFactory threadFactory;
+
+        WorkerThreadFactory(final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+            final Thread template = threadFactory.newThread(NOOP);
+            final ForkJoinWorkerThread thread = new WorkerThread(pool);
+            thread.setName(template.getName());
+            thread.setDaemon(template.isDaemon());
+            thread.setPriority(template.getPriority());
+            thread.setContextClassLoader(template.getContextClassLoader());
+            return thread;
+        }
+    }
+
+    private class WorkerThread extends ForkJoinWorkerThread {
+
+        WorkerThread(final ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                // The thread has been deregistered from the pool by now, so this sees whether it was the last one
+                final ForkJoinPool pool = getPool();
+                if (pool.isTerminated()) {
+                    terminated(pool);
+                }
+            }
+        }
+    }
+}
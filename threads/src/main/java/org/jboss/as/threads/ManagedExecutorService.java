@@ -21,6 +21,7 @@
  */
 package org.jboss.as.threads;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -41,6 +43,7 @@ import org.wildfly.common.Assert;
 public abstract class ManagedExecutorService implements ExecutorService {
 
     private final ExecutorService executor;
+    private final TaskStatistics statistics = new TaskStatistics();
 
     public ManagedExecutorService(ExecutorService executor) {
         Assert.checkNotNullParam("executor", executor);
@@ -53,13 +56,48 @@ public abstract class ManagedExecutorService implements ExecutorService {
 
     abstract void internalShutdown();
 
+    /**
+     * Gets the statistics of the tasks submitted to this executor. They are only recorded while enabled.
+     *
+     * @return the statistics
+     */
+    TaskStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Records a rejected task in the statistics.
+     *
+     * @param e the exception thrown by the executor
+     * @return the given exception, to be rethrown
+     */
+    RejectedExecutionException rejected(RejectedExecutionException e) {
+        statistics.rejected(isShutdown());
+        return e;
+    }
+
+    private <T> Collection<? extends Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
+        if (!statistics.isEnabled()) {
+            return tasks;
+        }
+        final List<Callable<T>> result = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            result.add(statistics.wrap(task));
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
      */
     @Override
     public void execute(Runnable command) {
-        this.executor.execute(command);
+        try {
+            this.executor.execute(statistics.wrap(command));
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     /**
@@ -114,7 +152,11 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-        return this.executor.submit(task);
+        try {
+            return this.executor.submit(statistics.wrap(task));
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     /**
@@ -123,7 +165,11 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-        return this.executor.submit(task, result);
+        try {
+            return this.executor.submit(statistics.wrap(task), result);
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     /**
@@ -132,7 +178,11 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public Future<?> submit(Runnable task) {
-        return this.executor.submit(task);
+        try {
+            return this.executor.submit(statistics.wrap(task));
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     /**
@@ -141,7 +191,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
-        return this.executor.invokeAll(tasks);
+        return this.executor.invokeAll(wrap(tasks));
     }
 
     /**
@@ -150,7 +200,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
-        return this.executor.invokeAll(tasks, timeout, unit);
+        return this.executor.invokeAll(wrap(tasks), timeout, unit);
     }
 
     /**
@@ -159,7 +209,7 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
-        return this.executor.invokeAny(tasks);
+        return this.executor.invokeAny(wrap(tasks));
     }
 
     /**
@@ -168,6 +218,6 @@ public abstract class ManagedExecutorService implements ExecutorService {
      */
     @Override
     public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
-        return this.executor.invokeAny(tasks, timeout, unit);
+        return this.executor.invokeAny(wrap(tasks), timeout, unit);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link ForkJoinPool} whose lifecycle is managed by its service, so that users of the pool can't shut it down.
+ */
+public class ManagedForkJoinPool extends ForkJoinPool {
+
+    ManagedForkJoinPool(int parallelism, ForkJoinWorkerThreadFactory factory, boolean asyncMode) {
+        super(parallelism, factory, null, asyncMode);
+    }
+
+    void internalShutdown() {
+        super.shutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.ExecutorService#shutdown()
+     */
+    @Override
+    public void shutdown() {
+        // Don't shutdown managed executor
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see java.util.concurrent.ExecutorService#shutdownNow()
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        // Don't shutdown managed executor
+        return Collections.emptyList();
+    }
+}
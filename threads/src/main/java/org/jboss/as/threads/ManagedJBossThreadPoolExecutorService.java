@@ -133,18 +133,30 @@ public class ManagedJBossThreadPoolExecutorService extends ManagedExecutorServic
     @Override
     public void executeBlocking(Runnable task)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task);
+        try {
+            executor.executeBlocking(getStatistics().wrap(task));
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     @Override
     public void executeBlocking(Runnable task, long timeout, TimeUnit unit)
             throws RejectedExecutionException, InterruptedException {
-        executor.executeBlocking(task, timeout, unit);
+        try {
+            executor.executeBlocking(getStatistics().wrap(task), timeout, unit);
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 
     @Override
     public void executeNonBlocking(Runnable task)
             throws RejectedExecutionException {
-        executor.executeNonBlocking(task);
+        try {
+            executor.executeNonBlocking(getStatistics().wrap(task));
+        } catch (RejectedExecutionException e) {
+            throw rejected(e);
+        }
     }
 }
@@ -23,8 +23,10 @@ package org.jboss.as.threads;
 
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
@@ -47,6 +49,19 @@ public interface PoolAttributeDefinitions {
     SimpleAttributeDefinition MAX_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_THREADS, ModelType.INT, false)
             .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, false, true)).setAllowExpression(true).build();
 
+    SimpleAttributeDefinition MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENCY, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true)).setAllowExpression(true).build();
+
+    SimpleAttributeDefinition PARALLELISM = new SimpleAttributeDefinitionBuilder(CommonAttributes.PARALLELISM, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, ForkJoinExecutorService.MAX_PARALLELISM, true, true)).setAllowExpression(true)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES).build();
+
+    SimpleAttributeDefinition ASYNC_MODE = new SimpleAttributeDefinitionBuilder(CommonAttributes.ASYNC_MODE, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
     KeepAliveTimeAttributeDefinition KEEPALIVE_TIME = new KeepAliveTimeAttributeDefinition();
 
     SimpleAttributeDefinition CORE_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.CORE_THREADS, ModelType.INT, true)
@@ -76,6 +91,11 @@ public interface PoolAttributeDefinitions {
             .setAllowExpression(true)
             .build();
 
+    SimpleAttributeDefinition STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(CommonAttributes.STATISTICS_ENABLED, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(false))
+            .build();
+
     // Metrics
     AttributeDefinition CURRENT_THREAD_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.CURRENT_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(new ModelNode(0))
@@ -98,4 +118,38 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(new ModelNode(0))
             .build();
+    AttributeDefinition STEAL_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.STEAL_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    AttributeDefinition QUEUED_SUBMISSION_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUED_SUBMISSION_COUNT, ModelType.INT)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .build();
+    AttributeDefinition QUEUED_TASK_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUED_TASK_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    AttributeDefinition VIRTUAL_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.VIRTUAL_THREADS, ModelType.BOOLEAN)
+            .setUndefinedMetricValue(new ModelNode(false))
+            .build();
+    AttributeDefinition TASK_WAIT_TIME = taskTime(CommonAttributes.TASK_WAIT_TIME);
+    AttributeDefinition TASK_RUN_TIME = taskTime(CommonAttributes.TASK_RUN_TIME);
+    AttributeDefinition THROUGHPUT = new SimpleAttributeDefinitionBuilder(CommonAttributes.THROUGHPUT, ModelType.DOUBLE)
+            .setMeasurementUnit(MeasurementUnit.PER_SECOND)
+            .setUndefinedMetricValue(new ModelNode(0.0))
+            .build();
+    AttributeDefinition SATURATED_REJECTED_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.SATURATED_REJECTED_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+    AttributeDefinition SHUTDOWN_REJECTED_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.SHUTDOWN_REJECTED_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static ObjectTypeAttributeDefinition taskTime(String name) {
+        return ObjectTypeAttributeDefinition.Builder.of(name,
+                SimpleAttributeDefinitionBuilder.create(CommonAttributes.AVERAGE, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+                SimpleAttributeDefinitionBuilder.create(CommonAttributes.P50, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+                SimpleAttributeDefinitionBuilder.create(CommonAttributes.P90, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+                SimpleAttributeDefinitionBuilder.create(CommonAttributes.P99, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build(),
+                SimpleAttributeDefinitionBuilder.create(CommonAttributes.MAX, ModelType.LONG).setMeasurementUnit(MeasurementUnit.MICROSECONDS).build())
+                .build();
+    }
 }
@@ -42,7 +42,11 @@ public class QueuelessThreadPoolMetricsHandler extends ThreadPoolMetricsHandler
             PoolAttributeDefinitions.REJECTED_COUNT,PoolAttributeDefinitions.QUEUE_SIZE);
 
     public QueuelessThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    QueuelessThreadPoolMetricsHandler(final ServiceName serviceNameBase, boolean statistics) {
+        super(statistics ? withStatisticsMetrics(METRICS) : METRICS, serviceNameBase);
     }
 
     @Override
@@ -57,7 +61,7 @@ public class QueuelessThreadPoolMetricsHandler extends ThreadPoolMetricsHandler
             context.getResult().set(pool.getRejectedCount());
         }else if (attributeName.equals(CommonAttributes.QUEUE_SIZE)) {
             context.getResult().set(pool.getRejectedCount());
-        } else {
+        } else if (!setStatisticsResult(context, attributeName, pool.getStatistics())) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedQueuelessThreadPoolMetric(attributeName);
         }
@@ -50,10 +50,10 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
     public static QueuelessThreadPoolResourceDefinition create(boolean blocking, boolean registerRuntimeOnly) {
         if (blocking) {
             return create(CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    null, ThreadsServices.EXECUTOR, registerRuntimeOnly, true);
         } else {
             return create(CommonAttributes.QUEUELESS_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly);
+                    ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, registerRuntimeOnly, true);
         }
     }
 
@@ -71,24 +71,34 @@ public class QueuelessThreadPoolResourceDefinition extends PersistentResourceDef
     public static QueuelessThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
                                                                HandoffExecutorResolver handoffExecutorResolver,
                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+        return create(type, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, registerRuntimeOnly, false);
+    }
+
+    /**
+     * @param statistics whether the pool has the statistics-enabled attribute and the metrics it enables, which only
+     *                   the thread pools of the threads subsystem itself have
+     */
+    private static QueuelessThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
+                                                                HandoffExecutorResolver handoffExecutorResolver,
+                                                                ServiceName serviceNameBase, boolean registerRuntimeOnly, boolean statistics) {
         final boolean blocking = handoffExecutorResolver == null;
         final String resolverPrefix = blocking ? CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL : CommonAttributes.QUEUELESS_THREAD_POOL;
-        final QueuelessThreadPoolAdd addHandler = new QueuelessThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase);
+        final QueuelessThreadPoolAdd addHandler = new QueuelessThreadPoolAdd(blocking, threadFactoryResolver, handoffExecutorResolver, serviceNameBase, statistics);
         final OperationStepHandler removeHandler = new QueuelessThreadPoolRemove(addHandler);
-        return new QueuelessThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler);
+        return new QueuelessThreadPoolResourceDefinition(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler, statistics);
     }
 
 
     private QueuelessThreadPoolResourceDefinition(boolean blocking, boolean registerRuntimeOnly,
                                                   String type, ServiceName serviceNameBase, String resolverPrefix, OperationStepHandler addHandler,
-                                                  OperationStepHandler removeHandler) {
+                                                  OperationStepHandler removeHandler, boolean statistics) {
         super(PathElement.pathElement(type),
                 new ThreadPoolResourceDescriptionResolver(resolverPrefix, ThreadsExtension.RESOURCE_NAME, ThreadsExtension.class.getClassLoader()),
                 addHandler, removeHandler);
         this.registerRuntimeOnly = registerRuntimeOnly;
         this.blocking = blocking;
-        writeHandler = new QueuelessThreadPoolWriteAttributeHandler(blocking, serviceNameBase);
-        metricsHandler = new QueuelessThreadPoolMetricsHandler(serviceNameBase);
+        writeHandler = new QueuelessThreadPoolWriteAttributeHandler(blocking, serviceNameBase, statistics);
+        metricsHandler = new QueuelessThreadPoolMetricsHandler(serviceNameBase, statistics);
     }
 
 
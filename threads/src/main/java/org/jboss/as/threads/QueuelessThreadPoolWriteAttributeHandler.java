@@ -45,7 +45,11 @@ public class QueuelessThreadPoolWriteAttributeHandler extends ThreadsWriteAttrib
     private final ServiceName serviceNameBase;
 
     public QueuelessThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase) {
-        super(blocking ? QueuelessThreadPoolAdd.BLOCKING_ATTRIBUTES : QueuelessThreadPoolAdd.NON_BLOCKING_ATTRIBUTES, QueuelessThreadPoolAdd.RW_ATTRIBUTES);
+        this(blocking, serviceNameBase, false);
+    }
+
+    QueuelessThreadPoolWriteAttributeHandler(boolean blocking, ServiceName serviceNameBase, boolean statistics) {
+        super(QueuelessThreadPoolAdd.getAttributes(blocking, statistics), QueuelessThreadPoolAdd.getRuntimeAttributes(statistics));
         this.serviceNameBase = serviceNameBase;
     }
 
@@ -61,6 +65,8 @@ public class QueuelessThreadPoolWriteAttributeHandler extends ThreadsWriteAttrib
             pool.setKeepAlive(spec);
         } else if(PoolAttributeDefinitions.MAX_THREADS.getName().equals(attributeName)) {
             pool.setMaxThreads(PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, model).asInt());
+        } else if (PoolAttributeDefinitions.STATISTICS_ENABLED.getName().equals(attributeName)) {
+            pool.setStatisticsEnabled(PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
         } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedQueuelessThreadPoolAttribute(attributeName);
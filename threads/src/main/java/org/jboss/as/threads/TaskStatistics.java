@@ -0,0 +1,193 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the tasks run by a thread pool: how long they waited before a thread ran them, how long they
+ * ran, how many completed per second and why tasks were rejected.
+ * <p/>
+ * Tasks are timed by wrapping them when they are submitted. While statistics are disabled tasks are not wrapped,
+ * so the only overhead is reading a volatile field. Enabling statistics only affects tasks submitted afterwards.
+ */
+final class TaskStatistics {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private volatile boolean enabled;
+
+    private final TaskTimeHistogram waitTimes = new TaskTimeHistogram();
+    private final TaskTimeHistogram runTimes = new TaskTimeHistogram();
+    private final LongAdder saturatedRejectedCount = new LongAdder();
+    private final LongAdder shutdownRejectedCount = new LongAdder();
+
+    private final LongAdder windowCompleted = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile double throughput;
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param task The submitted task
+     * @return The task to pass to the executor, which is the given one if statistics are disabled
+     */
+    Runnable wrap(Runnable task) {
+        return enabled ? new TimedRunnable(task, System.nanoTime()) : task;
+    }
+
+    /**
+     * @param task The submitted task
+     * @return The task to pass to the executor, which is the given one if statistics are disabled
+     */
+    <T> Callable<T> wrap(Callable<T> task) {
+        return enabled ? new TimedCallable<>(task, System.nanoTime()) : task;
+    }
+
+    /**
+     * Records that a task was rejected.
+     *
+     * @param shutdown <code>true</code> if the executor has been shut down, <code>false</code> if it was saturated
+     */
+    void rejected(boolean shutdown) {
+        if (enabled) {
+            if (shutdown) {
+                shutdownRejectedCount.increment();
+            } else {
+                saturatedRejectedCount.increment();
+            }
+        }
+    }
+
+    /**
+     * @return The times in microseconds tasks waited between their submission and the start of their execution
+     */
+    TaskTimeHistogram getWaitTimes() {
+        return waitTimes;
+    }
+
+    /**
+     * @return The times in microseconds tasks ran for
+     */
+    TaskTimeHistogram getRunTimes() {
+        return runTimes;
+    }
+
+    long getSaturatedRejectedCount() {
+        return saturatedRejectedCount.sum();
+    }
+
+    long getShutdownRejectedCount() {
+        return shutdownRejectedCount.sum();
+    }
+
+    /**
+     * @return The number of tasks completed per second, measured over the last window of at least a second
+     */
+    double getThroughput() {
+        rollWindow(System.nanoTime());
+        return throughput;
+    }
+
+    private void taskStarted(long submitted, long started) {
+        waitTimes.record(TimeUnit.NANOSECONDS.toMicros(started - submitted));
+    }
+
+    private void taskCompleted(long started) {
+        final long now = System.nanoTime();
+        runTimes.record(TimeUnit.NANOSECONDS.toMicros(now - started));
+        windowCompleted.increment();
+        rollWindow(now);
+    }
+
+    private void rollWindow(long now) {
+        final long start = windowStart.get();
+        final long duration = now - start;
+        if (duration >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            throughput = windowCompleted.sumThenReset() * (double) WINDOW_NANOS / duration;
+        }
+    }
+
+    private final class TimedRunnable implements Runnable {
+
+        private final Runnable task;
+        private final long submitted;
+
+        TimedRunnable(Runnable task, long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public void run() {
+            final long started = System.nanoTime();
+            taskStarted(submitted, started);
+            try {
+                task.run();
+            } finally {
+                taskCompleted(started);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private final class TimedCallable<T> implements Callable<T> {
+
+        private final Callable<T> task;
+        private final long submitted;
+
+        TimedCallable(Callable<T> task, long submitted) {
+            this.task = task;
+            this.submitted = submitted;
+        }
+
+        @Override
+        public T call() throws Exception {
+            final long started = System.nanoTime();
+            taskStarted(submitted, started);
+            try {
+                return task.call();
+            } finally {
+                taskCompleted(started);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
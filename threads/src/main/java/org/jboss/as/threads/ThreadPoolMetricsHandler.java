@@ -23,6 +23,8 @@ package org.jboss.as.threads;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
@@ -45,6 +47,14 @@ import org.jboss.msc.service.ServiceName;
  */
 public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
+    /**
+     * The metrics backed by the {@link TaskStatistics} of a thread pool, which only the thread pools of the threads
+     * subsystem itself have.
+     */
+    static final List<AttributeDefinition> STATISTICS_METRICS = Arrays.asList(
+            PoolAttributeDefinitions.TASK_WAIT_TIME, PoolAttributeDefinitions.TASK_RUN_TIME, PoolAttributeDefinitions.THROUGHPUT,
+            PoolAttributeDefinitions.SATURATED_REJECTED_COUNT, PoolAttributeDefinitions.SHUTDOWN_REJECTED_COUNT);
+
     private final List<AttributeDefinition> metrics;
     private final ServiceName serviceNameBase;
 
@@ -73,6 +83,42 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
 
     protected abstract void setResult(OperationContext context, String attributeName, Service<?> service) throws OperationFailedException;
 
+    static List<AttributeDefinition> withStatisticsMetrics(List<AttributeDefinition> metrics) {
+        final List<AttributeDefinition> result = new ArrayList<>(metrics);
+        result.addAll(STATISTICS_METRICS);
+        return result;
+    }
+
+    /**
+     * Sets the result for the metrics backed by the {@link TaskStatistics} of a thread pool.
+     *
+     * @return {@code true} if the attribute is one of those metrics, {@code false} otherwise
+     */
+    static boolean setStatisticsResult(OperationContext context, String attributeName, TaskStatistics statistics) {
+        if (attributeName.equals(CommonAttributes.TASK_WAIT_TIME)) {
+            setTaskTimeResult(context.getResult(), statistics.getWaitTimes());
+        } else if (attributeName.equals(CommonAttributes.TASK_RUN_TIME)) {
+            setTaskTimeResult(context.getResult(), statistics.getRunTimes());
+        } else if (attributeName.equals(CommonAttributes.THROUGHPUT)) {
+            context.getResult().set(statistics.getThroughput());
+        } else if (attributeName.equals(CommonAttributes.SATURATED_REJECTED_COUNT)) {
+            context.getResult().set(statistics.getSaturatedRejectedCount());
+        } else if (attributeName.equals(CommonAttributes.SHUTDOWN_REJECTED_COUNT)) {
+            context.getResult().set(statistics.getShutdownRejectedCount());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void setTaskTimeResult(ModelNode result, TaskTimeHistogram histogram) {
+        result.get(CommonAttributes.AVERAGE).set(histogram.getMean());
+        result.get(CommonAttributes.P50).set(histogram.getValueAtPercentile(50));
+        result.get(CommonAttributes.P90).set(histogram.getValueAtPercentile(90));
+        result.get(CommonAttributes.P99).set(histogram.getValueAtPercentile(99));
+        result.get(CommonAttributes.MAX).set(histogram.getMax());
+    }
+
     protected ServiceController<?> getService(final OperationContext context, final ModelNode operation)
             throws OperationFailedException {
         final String name = Util.getNameFromAddress(operation.require(OP_ADDR));
@@ -49,7 +49,10 @@ class ThreadPoolResourceDescriptionResolver extends StandardResourceDescriptionR
                 PoolAttributeDefinitions.THREAD_FACTORY.getName(), PoolAttributeDefinitions.ACTIVE_COUNT.getName(),
                 PoolAttributeDefinitions.COMPLETED_TASK_COUNT.getName(), PoolAttributeDefinitions.CURRENT_THREAD_COUNT.getName(),
                 PoolAttributeDefinitions.LARGEST_THREAD_COUNT.getName(), PoolAttributeDefinitions.TASK_COUNT.getName(),
-                PoolAttributeDefinitions.QUEUE_SIZE.getName()));
+                PoolAttributeDefinitions.QUEUE_SIZE.getName(), PoolAttributeDefinitions.STATISTICS_ENABLED.getName(),
+                PoolAttributeDefinitions.TASK_WAIT_TIME.getName(), PoolAttributeDefinitions.TASK_RUN_TIME.getName(),
+                PoolAttributeDefinitions.THROUGHPUT.getName(), PoolAttributeDefinitions.SATURATED_REJECTED_COUNT.getName(),
+                PoolAttributeDefinitions.SHUTDOWN_REJECTED_COUNT.getName()));
 
         // note we don't include REJECTED_COUNT as it has a different definition in different resources
     }
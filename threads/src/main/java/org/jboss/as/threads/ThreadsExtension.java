@@ -34,6 +34,11 @@ import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.extension.AbstractLegacyExtension;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.dmr.ModelNode;
 
 /**
  * Extension for thread management.
@@ -49,8 +54,9 @@ public class ThreadsExtension extends AbstractLegacyExtension {
     static final String RESOURCE_NAME = ThreadsExtension.class.getPackage().getName() + ".LocalDescriptions";
 
     private static final int MANAGEMENT_API_MAJOR_VERSION = 2;
-    private static final int MANAGEMENT_API_MINOR_VERSION = 0;
+    private static final int MANAGEMENT_API_MINOR_VERSION = 1;
     private static final int MANAGEMENT_API_MICRO_VERSION = 0;
+    private static final ModelVersion VERSION_2_0_0 = ModelVersion.create(2, 0, 0);
     static final ModelVersion DEPRECATED_SINCE = ModelVersion.create(1, 1, 0);
 
     private static final ModelVersion CURRENT_VERSION = ModelVersion.create(MANAGEMENT_API_MAJOR_VERSION, MANAGEMENT_API_MINOR_VERSION, MANAGEMENT_API_MICRO_VERSION);
@@ -66,18 +72,44 @@ public class ThreadsExtension extends AbstractLegacyExtension {
 
         // Register the threads subsystem
         final SubsystemRegistration registration = context.registerSubsystem(THREADS, CURRENT_VERSION);
-        registration.registerXMLElementWriter(ThreadsParser2_0.INSTANCE);
+        registration.registerXMLElementWriter(ThreadsParser2_1.INSTANCE);
 
         // Remoting threads description and operation handlers
         @SuppressWarnings("deprecation")
         final ManagementResourceRegistration subsystem = registration.registerSubsystemModel(new ThreadSubsystemResourceDefinition(registerRuntimeOnly));
 
+        if (context.isRegisterTransformers()) {
+            registerTransformers_2_0_0(registration);
+        }
+
         return Collections.singleton(subsystem);
     }
 
+    /**
+     * Hosts running model version 2.0.0 don't know the virtual thread and fork join executors, nor the statistics
+     * of the other thread pools.
+     *
+     * @param subsystemRegistration the subsystem registration
+     */
+    private static void registerTransformers_2_0_0(final SubsystemRegistration subsystemRegistration) {
+        ResourceTransformationDescriptionBuilder builder = ResourceTransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.rejectChildResource(PathElement.pathElement(CommonAttributes.VIRTUAL_THREAD_EXECUTOR));
+        builder.rejectChildResource(PathElement.pathElement(CommonAttributes.FORK_JOIN_EXECUTOR));
+        for (String pool : new String[] {CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, CommonAttributes.BOUNDED_QUEUE_THREAD_POOL,
+                CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL, CommonAttributes.QUEUELESS_THREAD_POOL,
+                CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL}) {
+            builder.addChildResource(PathElement.pathElement(pool)).getAttributeBuilder()
+                    .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(new ModelNode(false)), PoolAttributeDefinitions.STATISTICS_ENABLED)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, PoolAttributeDefinitions.STATISTICS_ENABLED)
+                    .end();
+        }
+        TransformationDescription.Tools.register(builder.build(), subsystemRegistration, VERSION_2_0_0);
+    }
+
     @Override
     protected void initializeLegacyParsers(ExtensionParsingContext context) {
-        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.CURRENT.getUriString(), ThreadsParser2_0.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.THREADS_2_1.getUriString(), ThreadsParser2_1.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.THREADS_2_0.getUriString(), ThreadsParser2_0.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.THREADS_1_1.getUriString(), ThreadsParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.THREADS_1_0.getUriString(), ThreadsParser.INSTANCE);
     }
@@ -147,4 +147,26 @@ interface ThreadsLogger extends BasicLogger {
     OperationFailedException failedToParseUnit(String unit, List<TimeUnit> allowed);
 
     // id = 31; redundant parameter null check message
+
+    @Message(id = 32, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorMetric(String attributeName);
+
+    @Message(id = 33, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorAttribute(String attributeName);
+
+    @Message(id = 34, value = "The executor service hasn't been initialized.")
+    IllegalStateException virtualThreadExecutorUninitialized();
+
+    @Message(id = 35, value = "Service '%s' not found.")
+    OperationFailedException virtualThreadExecutorServiceNotFound(ServiceName serviceName);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 36, value = "Virtual threads are not supported by this JVM, executor '%s' will use platform threads and run at most %d tasks at the same time")
+    void virtualThreadsNotSupported(String executorName, int maxConcurrency);
+
+    @Message(id = 37, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedForkJoinExecutorMetric(String attributeName);
+
+    @Message(id = 38, value = "The executor service hasn't been initialized.")
+    IllegalStateException forkJoinExecutorUninitialized();
 }
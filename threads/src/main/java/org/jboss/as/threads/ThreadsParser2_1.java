@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
+import static org.jboss.as.threads.ThreadsParser2_0.THREAD_FACTORY_PARSER;
+import static org.jboss.as.threads.ThreadsParser2_0.getBoundedQueueThreadPoolParser;
+import static org.jboss.as.threads.ThreadsParser2_0.getQueuelessThreadPoolParser;
+import static org.jboss.as.threads.ThreadsParser2_0.getScheduledThreadPoolParser;
+import static org.jboss.as.threads.ThreadsParser2_0.getUnboundedQueueThreadPoolParser;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLDescription.PersistentResourceXMLBuilder;
+import org.jboss.as.controller.PersistentResourceXMLParser;
+
+/**
+ * Parser and marshaller for version 2.1 of the threads subsystem, which adds the virtual thread and fork join executors
+ * and the statistics of the thread pools.
+ */
+public class ThreadsParser2_1 extends PersistentResourceXMLParser {
+    static final ThreadsParser2_1 INSTANCE = new ThreadsParser2_1();
+
+    @SuppressWarnings("deprecation")
+    private static final PersistentResourceXMLDescription xmlDescription = builder(new ThreadSubsystemResourceDefinition(false), Namespace.THREADS_2_1.getUriString())
+            .addChild(THREAD_FACTORY_PARSER)
+            .addChild(getUnboundedQueueThreadPoolParser(UnboundedQueueThreadPoolResourceDefinition.create(false))
+                    .addAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED))
+            .addChild(getBoundedQueueThreadPoolParser(BoundedQueueThreadPoolResourceDefinition.create(false, false))
+                    .addAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED))
+            .addChild(getBoundedQueueThreadPoolParser(BoundedQueueThreadPoolResourceDefinition.create(true, false))
+                    .addAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED))
+            .addChild(getQueuelessThreadPoolParser(QueuelessThreadPoolResourceDefinition.create(false, false))
+                    .addAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED))
+            .addChild(getQueuelessThreadPoolParser(QueuelessThreadPoolResourceDefinition.create(true, false))
+                    .addAttribute(PoolAttributeDefinitions.STATISTICS_ENABLED))
+            .addChild(getScheduledThreadPoolParser(ScheduledThreadPoolResourceDefinition.create(false)))
+            .addChild(getVirtualThreadExecutorParser(VirtualThreadExecutorResourceDefinition.create(false)))
+            .addChild(getForkJoinExecutorParser(ForkJoinExecutorResourceDefinition.create(false)))
+            .build();
+
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return xmlDescription;
+    }
+
+    public static PersistentResourceXMLBuilder getVirtualThreadExecutorParser(VirtualThreadExecutorResourceDefinition resourceDefinition) {
+        return builder(resourceDefinition)
+                .addAttributes(PoolAttributeDefinitions.MAX_CONCURRENCY, PoolAttributeDefinitions.THREAD_FACTORY);
+
+    }
+
+    public static PersistentResourceXMLBuilder getForkJoinExecutorParser(ForkJoinExecutorResourceDefinition resourceDefinition) {
+        return builder(resourceDefinition)
+                .addAttributes(PoolAttributeDefinitions.PARALLELISM, PoolAttributeDefinitions.ASYNC_MODE,
+                        PoolAttributeDefinitions.THREAD_FACTORY);
+
+    }
+}
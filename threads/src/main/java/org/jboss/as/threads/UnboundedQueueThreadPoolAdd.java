@@ -46,11 +46,25 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
 
     private final ThreadFactoryResolver threadFactoryResolver;
     private final ServiceName serviceNameBase;
+    private final boolean statistics;
 
     public UnboundedQueueThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase) {
-        super(ATTRIBUTES);
+        this(threadFactoryResolver, serviceNameBase, false);
+    }
+
+    UnboundedQueueThreadPoolAdd(ThreadFactoryResolver threadFactoryResolver, ServiceName serviceNameBase, boolean statistics) {
+        super(getAttributes(statistics));
         this.threadFactoryResolver = threadFactoryResolver;
         this.serviceNameBase = serviceNameBase;
+        this.statistics = statistics;
+    }
+
+    static AttributeDefinition[] getAttributes(boolean statistics) {
+        return statistics ? ThreadPoolManagementUtils.withStatisticsEnabled(ATTRIBUTES) : ATTRIBUTES;
+    }
+
+    static AttributeDefinition[] getRuntimeAttributes(boolean statistics) {
+        return statistics ? ThreadPoolManagementUtils.withStatisticsEnabled(RW_ATTRIBUTES) : RW_ATTRIBUTES;
     }
 
     @Override
@@ -59,6 +73,9 @@ public class UnboundedQueueThreadPoolAdd extends AbstractAddStepHandler {
         final BaseThreadPoolParameters params = ThreadPoolManagementUtils.parseUnboundedQueueThreadPoolParameters(context, operation, model);
 
         final UnboundedQueueThreadPoolService service = new UnboundedQueueThreadPoolService(params.getMaxThreads(), params.getKeepAliveTime());
+        if (statistics) {
+            service.setStatisticsEnabled(PoolAttributeDefinitions.STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
+        }
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), serviceNameBase,
                 params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
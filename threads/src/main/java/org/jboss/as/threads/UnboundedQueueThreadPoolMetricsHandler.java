@@ -44,7 +44,11 @@ public class UnboundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHan
             PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE);
 
     public UnboundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
-        super(METRICS, serviceNameBase);
+        this(serviceNameBase, false);
+    }
+
+    UnboundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase, boolean statistics) {
+        super(statistics ? withStatisticsMetrics(METRICS) : METRICS, serviceNameBase);
     }
 
     @Override
@@ -65,7 +69,7 @@ public class UnboundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHan
             context.getResult().set(pool.getTaskCount());
         }else if (attributeName.equals(CommonAttributes.QUEUE_SIZE)) {
             context.getResult().set(pool.getQueueSize());
-        } else {
+        } else if (!setStatisticsResult(context, attributeName, pool.getStatistics())) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedUnboundedQueueThreadPoolMetric(attributeName);
         }
@@ -44,8 +44,8 @@ public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResour
     private final boolean registerRuntimeOnly;
 
     public static UnboundedQueueThreadPoolResourceDefinition create(boolean registerRuntimeOnly) {
-        return create(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
-                ThreadsServices.EXECUTOR, registerRuntimeOnly);
+        return create(PathElement.pathElement(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL), ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
+                ThreadsServices.EXECUTOR, registerRuntimeOnly, true);
     }
 
     public static UnboundedQueueThreadPoolResourceDefinition create(String type, ThreadFactoryResolver threadFactoryResolver,
@@ -55,19 +55,28 @@ public class UnboundedQueueThreadPoolResourceDefinition extends PersistentResour
 
     public static UnboundedQueueThreadPoolResourceDefinition create(PathElement path, ThreadFactoryResolver threadFactoryResolver,
                                                                     ServiceName serviceNameBase, boolean registerRuntimeOnly) {
-        UnboundedQueueThreadPoolAdd addHandler = new UnboundedQueueThreadPoolAdd(threadFactoryResolver, serviceNameBase);
-        return new UnboundedQueueThreadPoolResourceDefinition(path, addHandler, serviceNameBase, registerRuntimeOnly);
+        return create(path, threadFactoryResolver, serviceNameBase, registerRuntimeOnly, false);
+    }
+
+    /**
+     * @param statistics whether the pool has the statistics-enabled attribute and the metrics it enables, which only
+     *                   the thread pools of the threads subsystem itself have
+     */
+    private static UnboundedQueueThreadPoolResourceDefinition create(PathElement path, ThreadFactoryResolver threadFactoryResolver,
+                                                                     ServiceName serviceNameBase, boolean registerRuntimeOnly, boolean statistics) {
+        UnboundedQueueThreadPoolAdd addHandler = new UnboundedQueueThreadPoolAdd(threadFactoryResolver, serviceNameBase, statistics);
+        return new UnboundedQueueThreadPoolResourceDefinition(path, addHandler, serviceNameBase, registerRuntimeOnly, statistics);
     }
 
     private UnboundedQueueThreadPoolResourceDefinition(PathElement path, UnboundedQueueThreadPoolAdd addHandler,
-                                                       ServiceName serviceNameBase, boolean registerRuntimeOnly) {
+                                                       ServiceName serviceNameBase, boolean registerRuntimeOnly, boolean statistics) {
         super(path,
                 new ThreadPoolResourceDescriptionResolver(CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL, ThreadsExtension.RESOURCE_NAME,
                         ThreadsExtension.class.getClassLoader()),
                 addHandler, new UnboundedQueueThreadPoolRemove(addHandler));
         this.registerRuntimeOnly = registerRuntimeOnly;
-        this.writeAttributeHandler = new UnboundedQueueThreadPoolWriteAttributeHandler(serviceNameBase);
-        this.metricsHandler = new UnboundedQueueThreadPoolMetricsHandler(serviceNameBase);
+        this.writeAttributeHandler = new UnboundedQueueThreadPoolWriteAttributeHandler(serviceNameBase, statistics);
+        this.metricsHandler = new UnboundedQueueThreadPoolMetricsHandler(serviceNameBase, statistics);
     }
 
 
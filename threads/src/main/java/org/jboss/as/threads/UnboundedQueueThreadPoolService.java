@@ -46,6 +46,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
 
     private int maxThreads;
     private TimeSpec keepAlive;
+    private boolean statisticsEnabled;
 
     public UnboundedQueueThreadPoolService(int maxThreads, TimeSpec keepAlive) {
         this.maxThreads = maxThreads;
@@ -57,6 +58,7 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
         final JBossThreadPoolExecutor jbossExecutor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), threadFactoryValue.getValue());
         executor = new ManagedJBossThreadPoolExecutorService(jbossExecutor);
+        executor.getStatistics().setEnabled(statisticsEnabled);
     }
 
     public void stop(final StopContext context) {
@@ -147,4 +149,17 @@ public class UnboundedQueueThreadPoolService implements Service<ManagedJBossThre
     TimeUnit getKeepAliveUnit() {
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
+
+    public synchronized void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        final ManagedJBossThreadPoolExecutorService executor = this.executor;
+        if(executor != null) {
+            executor.getStatistics().setEnabled(statisticsEnabled);
+        }
+    }
+
+    TaskStatistics getStatistics() {
+        final ManagedJBossThreadPoolExecutorService executor = getValue();
+        return executor.getStatistics();
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor that runs each task on a thread of its own, optionally limiting the number of tasks that run at
+ * the same time.
+ * <p/>
+ * Threads are virtual threads if the JVM supports them, and otherwise platform threads created by the given
+ * thread factory. Tasks that exceed the concurrency limit wait in an unbounded queue, and a thread that completes
+ * a task runs the next queued one rather than exiting, so no thread is created while the limit is reached. Platform
+ * threads are always limited, by {@link #DEFAULT_PLATFORM_MAX_CONCURRENCY} if no limit is given.
+ *
+ * @see #isVirtualThreadsSupported()
+ */
+final class VirtualThreadExecutor extends AbstractExecutorService {
+
+    /**
+     * The limit on the number of platform threads if none is given, the same as the default number of XNIO task threads
+     */
+    static final int DEFAULT_PLATFORM_MAX_CONCURRENCY = Runtime.getRuntime().availableProcessors() * 16;
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            // Virtual threads may be a preview feature that is not enabled
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private final ThreadFactory threadFactory;
+    private final boolean virtual;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final AtomicInteger rejectedCount = new AtomicInteger();
+    private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+
+    private final AtomicInteger largestThreadCount = new AtomicInteger();
+    private volatile int maxConcurrency;
+    private volatile boolean shutdown;
+
+    /**
+     * @param name The prefix of the names of virtual threads
+     * @param threadFactory The factory of the platform threads used if virtual threads are not supported
+     * @param maxConcurrency The maximum number of tasks that run at the same time, or a value less than 1 if there is
+     *                       none, in which case platform threads are limited by {@link #DEFAULT_PLATFORM_MAX_CONCURRENCY}
+     */
+    VirtualThreadExecutor(String name, ThreadFactory threadFactory, int maxConcurrency) {
+        final ThreadFactory virtualThreadFactory = createVirtualThreadFactory(name + "-");
+        this.virtual = virtualThreadFactory != null;
+        this.threadFactory = virtual ? virtualThreadFactory : threadFactory;
+        setMaxConcurrency(maxConcurrency);
+    }
+
+    /**
+     * @return <code>true</code> if the JVM supports virtual threads
+     */
+    static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory(String prefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            final Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    boolean isVirtual() {
+        return virtual;
+    }
+
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    void setMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency > 0) {
+            this.maxConcurrency = maxConcurrency;
+        } else {
+            this.maxConcurrency = virtual ? Integer.MAX_VALUE : DEFAULT_PLATFORM_MAX_CONCURRENCY;
+        }
+        // Start threads for the queued tasks the new limit allows to run
+        while (startThread()) {
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException();
+        }
+        taskCount.increment();
+        queue.add(command);
+        startThread();
+    }
+
+    /**
+     * Starts a thread to run queued tasks, if there are any and the limit allows it.
+     *
+     * @return <code>true</code> if a thread was started
+     */
+    private boolean startThread() {
+        for (;;) {
+            final int current = threadCount.get();
+            if (current >= maxConcurrency || queue.isEmpty()) {
+                return false;
+            }
+            if (threadCount.compareAndSet(current, current + 1)) {
+                largestThreadCount.accumulateAndGet(current + 1, Math::max);
+                try {
+                    threadFactory.newThread(this::runTasks).start();
+                } catch (RuntimeException | Error e) {
+                    threadExited();
+                    throw e;
+                }
+                return true;
+            }
+        }
+    }
+
+    private void runTasks() {
+        try {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                activeCount.incrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                } finally {
+                    activeCount.decrementAndGet();
+                    completedTaskCount.increment();
+                }
+            }
+        } finally {
+            threadExited();
+        }
+    }
+
+    private void threadExited() {
+        threadCount.decrementAndGet();
+        // A task may have been queued while this thread was exiting, when the limit did not allow a new thread
+        startThread();
+        checkTerminated();
+    }
+
+    private void checkTerminated() {
+        if (shutdown && threadCount.get() == 0 && queue.isEmpty()) {
+            terminated.complete(null);
+        }
+    }
+
+    /**
+     * Runs the given task once the executor has been shut down and all tasks have completed.
+     */
+    void whenTerminated(Runnable task) {
+        terminated.thenRun(task);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        checkTerminated();
+    }
+
+    /**
+     * Removes the queued tasks. Running tasks are not interrupted.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        final List<Runnable> result = new ArrayList<>();
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            result.add(task);
+        }
+        checkTerminated();
+        return result;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.isDone();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            terminated.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int getActiveCount() {
+        return activeCount.get();
+    }
+
+    int getCurrentThreadCount() {
+        return threadCount.get();
+    }
+
+    int getLargestThreadCount() {
+        return largestThreadCount.get();
+    }
+
+    long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    int getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+}
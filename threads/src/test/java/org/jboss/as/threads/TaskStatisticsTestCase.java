@@ -0,0 +1,121 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests the recording of task times by {@link TaskStatistics}, and which thread pools have it.
+ */
+public class TaskStatisticsTestCase {
+
+    @Test
+    public void testDisabled() throws Exception {
+        final TaskStatistics statistics = new TaskStatistics();
+        final Runnable runnable = () -> {};
+        final Callable<String> callable = () -> "done";
+        assertSame(runnable, statistics.wrap(runnable));
+        assertSame(callable, statistics.wrap(callable));
+        statistics.rejected(false);
+        assertEquals(0, statistics.getSaturatedRejectedCount());
+    }
+
+    @Test
+    public void testTaskTimes() throws Exception {
+        final TaskStatistics statistics = new TaskStatistics();
+        statistics.setEnabled(true);
+        final Runnable task = statistics.wrap(() -> sleep(5));
+        sleep(5);
+        task.run();
+        final Callable<String> callable = statistics.wrap(() -> "done");
+        assertEquals("done", callable.call());
+
+        assertEquals(2, statistics.getWaitTimes().getCount());
+        assertEquals(2, statistics.getRunTimes().getCount());
+        assertTrue(statistics.getWaitTimes().getMax() >= TimeUnit.MILLISECONDS.toMicros(5));
+        assertTrue(statistics.getRunTimes().getMax() >= TimeUnit.MILLISECONDS.toMicros(5));
+
+        statistics.rejected(false);
+        statistics.rejected(true);
+        statistics.rejected(true);
+        assertEquals(1, statistics.getSaturatedRejectedCount());
+        assertEquals(2, statistics.getShutdownRejectedCount());
+    }
+
+    @Test
+    public void testHistogram() {
+        final TaskTimeHistogram histogram = new TaskTimeHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.getMean());
+        assertEquals(1000, histogram.getMax());
+        assertWithinPrecision(500, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(900, histogram.getValueAtPercentile(90));
+        assertWithinPrecision(990, histogram.getValueAtPercentile(99));
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            final int index = TaskTimeHistogram.bucketIndex(value);
+            assertTrue(TaskTimeHistogram.highestValueInBucket(index) >= value);
+            assertTrue(index == 0 || TaskTimeHistogram.highestValueInBucket(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void testStatisticsOnlyForThreadsSubsystemPools() {
+        assertTrue(BoundedQueueThreadPoolResourceDefinition.create(false, false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+        assertTrue(QueuelessThreadPoolResourceDefinition.create(true, false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+        assertTrue(UnboundedQueueThreadPoolResourceDefinition.create(false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+
+        // Other subsystems create their pools through these factories, and don't parse or transform the attribute
+        assertFalse(BoundedQueueThreadPoolResourceDefinition.create("test", ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
+                ThreadsServices.STANDARD_HANDOFF_EXECUTOR_RESOLVER, ThreadsServices.EXECUTOR, false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+        assertFalse(QueuelessThreadPoolResourceDefinition.create("test", ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
+                null, ThreadsServices.EXECUTOR, false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+        assertFalse(UnboundedQueueThreadPoolResourceDefinition.create("test", ThreadsServices.STANDARD_THREAD_FACTORY_RESOLVER,
+                ThreadsServices.EXECUTOR, false).getAttributes().contains(PoolAttributeDefinitions.STATISTICS_ENABLED));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue("Expected " + expected + " but was " + actual, actual >= expected && actual <= expected + expected / 16);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -40,14 +40,18 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUB
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE_TYPE;
 import static org.jboss.as.threads.CommonAttributes.ALLOW_CORE_TIMEOUT;
+import static org.jboss.as.threads.CommonAttributes.ASYNC_MODE;
 import static org.jboss.as.threads.CommonAttributes.BLOCKING_BOUNDED_QUEUE_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.BLOCKING_QUEUELESS_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.BOUNDED_QUEUE_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.CORE_THREADS;
+import static org.jboss.as.threads.CommonAttributes.FORK_JOIN_EXECUTOR;
 import static org.jboss.as.threads.CommonAttributes.GROUP_NAME;
 import static org.jboss.as.threads.CommonAttributes.HANDOFF_EXECUTOR;
 import static org.jboss.as.threads.CommonAttributes.KEEPALIVE_TIME;
+import static org.jboss.as.threads.CommonAttributes.MAX_CONCURRENCY;
 import static org.jboss.as.threads.CommonAttributes.MAX_THREADS;
+import static org.jboss.as.threads.CommonAttributes.PARALLELISM;
 import static org.jboss.as.threads.CommonAttributes.PRIORITY;
 import static org.jboss.as.threads.CommonAttributes.QUEUELESS_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.QUEUE_LENGTH;
@@ -58,6 +62,7 @@ import static org.jboss.as.threads.CommonAttributes.THREAD_NAME_PATTERN;
 import static org.jboss.as.threads.CommonAttributes.TIME;
 import static org.jboss.as.threads.CommonAttributes.UNBOUNDED_QUEUE_THREAD_POOL;
 import static org.jboss.as.threads.CommonAttributes.UNIT;
+import static org.jboss.as.threads.CommonAttributes.VIRTUAL_THREAD_EXECUTOR;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -239,6 +244,21 @@ public class ThreadsSubsystemParsingTestCase extends AbstractSubsystemTest {
                 unboundedThreadPoolDesc.require(ATTRIBUTES).require(KEEPALIVE_TIME).require(VALUE_TYPE).require(UNIT)
                         .require(TYPE).asType());
 
+        ModelNode virtualThreadExecutorDesc = threadsDescription.get(CHILDREN, VIRTUAL_THREAD_EXECUTOR, MODEL_DESCRIPTION, "*");
+        assertEquals(ModelType.STRING, virtualThreadExecutorDesc.require(ATTRIBUTES).require(NAME).require(TYPE).asType());
+        assertEquals(ModelType.STRING, virtualThreadExecutorDesc.require(ATTRIBUTES).require(THREAD_FACTORY).require(TYPE)
+                .asType());
+        assertEquals(ModelType.INT, virtualThreadExecutorDesc.require(ATTRIBUTES).require(MAX_CONCURRENCY).require(TYPE).asType());
+        assertFalse(virtualThreadExecutorDesc.require(ATTRIBUTES).has(MAX_THREADS));
+        assertFalse(virtualThreadExecutorDesc.require(ATTRIBUTES).has(KEEPALIVE_TIME));
+
+        ModelNode forkJoinExecutorDesc = threadsDescription.get(CHILDREN, FORK_JOIN_EXECUTOR, MODEL_DESCRIPTION, "*");
+        assertEquals(ModelType.STRING, forkJoinExecutorDesc.require(ATTRIBUTES).require(NAME).require(TYPE).asType());
+        assertEquals(ModelType.STRING, forkJoinExecutorDesc.require(ATTRIBUTES).require(THREAD_FACTORY).require(TYPE)
+                .asType());
+        assertEquals(ModelType.INT, forkJoinExecutorDesc.require(ATTRIBUTES).require(PARALLELISM).require(TYPE).asType());
+        assertEquals(ModelType.BOOLEAN, forkJoinExecutorDesc.require(ATTRIBUTES).require(ASYNC_MODE).require(TYPE).asType());
+
     }
 
     @Test
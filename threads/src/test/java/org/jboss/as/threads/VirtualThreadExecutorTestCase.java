@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2017, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link VirtualThreadExecutor}, which uses platform threads on JVMs that don't support virtual threads.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(5);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                final int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        assertEquals(5, executor.getTaskCount());
+        assertTrue(executor.getCurrentThreadCount() <= 2);
+
+        // Raising the limit starts threads for the queued tasks
+        executor.setMaxConcurrency(3);
+        release.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 3);
+        assertTrue(executor.getLargestThreadCount() <= 3);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(5, executor.getCompletedTaskCount());
+        assertEquals(0, executor.getQueueSize());
+    }
+
+    @Test
+    public void testDefaultMaxConcurrency() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 0);
+        if (executor.isVirtual()) {
+            assertEquals(Integer.MAX_VALUE, executor.getMaxConcurrency());
+        } else {
+            assertEquals(VirtualThreadExecutor.DEFAULT_PLATFORM_MAX_CONCURRENCY, executor.getMaxConcurrency());
+        }
+        executor.setMaxConcurrency(4);
+        assertEquals(4, executor.getMaxConcurrency());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor("test", Executors.defaultThreadFactory(), 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch terminated = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        executor.whenTerminated(terminated::countDown);
+
+        executor.shutdown();
+        try {
+            executor.execute(() -> { });
+            fail("Tasks must be rejected once the executor is shut down");
+        } catch (RejectedExecutionException expected) {
+            // expected
+        }
+        assertEquals(1, executor.getRejectedCount());
+        assertFalse(executor.isTerminated());
+
+        // Queued tasks still run after a shutdown
+        release.countDown();
+        assertTrue(terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(2, executor.getCompletedTaskCount());
+    }
+}